@@ -1,9 +1,24 @@
 package Java.COMP3211_JungleGame;
+import Java.COMP3211_JungleGame.controller.EngineProtocol;
 import Java.COMP3211_JungleGame.controller.GameController;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+
 public class Main {
 
     public static void main(String[] args) {
+        // --protocol: text protocol on stdin/stdout for external programs, no menu
+        if (args.length > 0 && args[0].equals("--protocol")) {
+            try {
+                new EngineProtocol(new BufferedReader(new InputStreamReader(System.in)), System.out).run();
+            } catch (Exception e) {
+                System.err.println("Fatal error: " + e.getMessage());
+                System.exit(1);
+            }
+            System.exit(0);
+        }
+
         try {
             GameController controller = new GameController();
             controller.run();
@@ -0,0 +1,136 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the incrementally maintained attack map against the legal move generator
+ */
+public class AttackMapTest {
+
+    /**
+     * Builds a fresh game holding only the given pieces, encoded as player * 8 + type per square
+     * (-1 for empty), with player 0 to move.
+     */
+    private GameManager buildGame(int[] layout) {
+        GameManager game = GameManager.empty(new Player("Alice", 0), new Player("Bob", 1));
+        for (int square = 0; square < 63; square++) {
+            if (layout[square] >= 0) {
+                game.placePiece(layout[square] / 8, layout[square] % 8, square);
+            }
+        }
+        game.resetPositionHistory();
+        return game;
+    }
+
+    /**
+     * Compares every attack map query with the moves the generator actually allows.
+     */
+    private void assertMatchesMoveGenerator(GameManager game) {
+        Board board = game.getBoard();
+        AttackMap attacks = board.getAttackMap();
+        MoveBuffer buffer = new MoveBuffer();
+        for (int player = 0; player < 2; player++) {
+            boolean[] reachable = new boolean[63];
+            game.generateLegalMoves(player, buffer);
+            for (int i = 0; i < buffer.size(); i++) {
+                reachable[Move.getTo(buffer.get(i))] = true;
+            }
+            for (int square = 0; square < 63; square++) {
+                Piece piece = board.getPieceAt(square);
+                if (piece == null) {
+                    assertEquals(reachable[square], attacks.canReach(player, square),
+                            "Player " + player + " reach of " + Position.ofIndex(square));
+                } else if (piece.getOwner().getPlayerId() != player) {
+                    assertEquals(reachable[square], attacks.isAttacked(square),
+                            "Player " + player + " attack on " + piece);
+                }
+            }
+            int den = board.getDenPosition(1 - player).getIndex();
+            assertEquals(reachable[den], attacks.canReachDen(player));
+        }
+    }
+
+    @Test
+    @DisplayName("Test attack map matches the generator on random placements")
+    public void testRandomPlacements() {
+        Random random = new Random(19);
+        for (int trial = 0; trial < 300; trial++) {
+            int[] layout = new int[63];
+            java.util.Arrays.fill(layout, -1);
+            int pieces = 2 + random.nextInt(14);
+            for (int i = 0; i < pieces; i++) {
+                int square = random.nextInt(63);
+                if (square != 3 && square != 59) {
+                    layout[square] = random.nextInt(16);
+                }
+            }
+            assertMatchesMoveGenerator(buildGame(layout));
+        }
+    }
+
+    @Test
+    @DisplayName("Test attack map stays in step through make and unmake")
+    public void testIncrementalUpdates() {
+        Random random = new Random(20);
+        MoveBuffer buffer = new MoveBuffer();
+        for (int game = 0; game < 20; game++) {
+            GameManager state = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            int[] moves = new int[80];
+            int[] tokens = new int[80];
+            int played = 0;
+            while (played < moves.length && !state.isGameOver()) {
+                state.generateLegalMoves(state.getCurrentPlayerIndex(), buffer);
+                moves[played] = buffer.get(random.nextInt(buffer.size()));
+                tokens[played] = state.makeMove(moves[played]);
+                played++;
+                assertMatchesMoveGenerator(state);
+            }
+            while (played > 0) {
+                played--;
+                state.unmakeMove(moves[played], tokens[played]);
+                assertMatchesMoveGenerator(state);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test rats in the river block jump attacks")
+    public void testRatBlocksJumpAttack() {
+        int[] layout = new int[63];
+        java.util.Arrays.fill(layout, -1);
+        layout[3 * 7] = 6;              // Player 0 Lion at (3,0)
+        layout[3 * 7 + 3] = 8 + 1;      // Player 1 Cat at (3,3)
+        GameManager game = buildGame(layout);
+        Board board = game.getBoard();
+        AttackMap attacks = board.getAttackMap();
+        assertTrue(attacks.isAttacked(3 * 7 + 3));
+
+        Piece rat = PieceFactory.create(Piece.RAT, game.getPlayer(1), Position.of(3, 2));
+        board.setPieceAt(3 * 7 + 2, rat);
+        assertFalse(attacks.isAttacked(3 * 7 + 3), "Rat in the water blocks the Lion");
+        assertTrue(attacks.isAttacked(3 * 7 + 2), "Lion can still jump onto the Rat itself");
+
+        board.removePieceAt(3 * 7 + 2);
+        assertTrue(attacks.isAttacked(3 * 7 + 3));
+        assertEquals(1, attacks.attackerCount(0, 3 * 7 + 3));
+    }
+
+    @Test
+    @DisplayName("Test a piece on an opponent trap attacks anything beside it")
+    public void testTrapAttack() {
+        int[] layout = new int[63];
+        java.util.Arrays.fill(layout, -1);
+        layout[7 * 7 + 3] = Piece.RAT;  // Player 0 Rat on player 1's trap at (7,3)
+        layout[7 * 7 + 2] = 8 + 5;      // Player 1 Tiger at (7,2)
+        GameManager game = buildGame(layout);
+        AttackMap attacks = game.getBoard().getAttackMap();
+        assertTrue(attacks.isAttacked(7 * 7 + 2));
+        assertTrue(attacks.canReachDen(0));
+        assertFalse(attacks.canReachDen(1));
+        assertTrue(attacks.canCapture(0, 7 * 7 + 4, Piece.ELEPHANT));
+    }
+}
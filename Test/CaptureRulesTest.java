@@ -0,0 +1,86 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.components.Animals.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the precomputed capture tables against the rules written out with piece classes
+ */
+public class CaptureRulesTest {
+
+    private final Player attackerOwner = new Player("Alice", 0);
+    private final Player defenderOwner = new Player("Bob", 1);
+
+    /**
+     * The step capture rules as GameManager.checkStep applied them before the tables.
+     */
+    private MoveResult referenceStep(Piece piece, Piece targetPiece, boolean fromWater, boolean toWater,
+                                     boolean onOpponentTrap) {
+        if (piece instanceof Rat) {
+            if (fromWater) {
+                if (targetPiece instanceof Rat && !toWater) {
+                    return MoveResult.RAT_IN_WATER_VS_RAT_ON_LAND;
+                }
+                if (targetPiece instanceof Elephant) {
+                    return MoveResult.RAT_IN_WATER_VS_ELEPHANT;
+                }
+            } else if (targetPiece instanceof Rat && toWater) {
+                return MoveResult.RAT_ON_LAND_VS_RAT_IN_WATER;
+            }
+        }
+        if (onOpponentTrap || piece.canCapture(targetPiece)) {
+            return MoveResult.LEGAL;
+        }
+        return MoveResult.RANK_TOO_LOW;
+    }
+
+    @Test
+    @DisplayName("Test step capture table matches the reference rules for every combination")
+    public void testStepCapturesExhaustive() {
+        int checked = 0;
+        for (int attackerType = 0; attackerType < Piece.TYPE_COUNT; attackerType++) {
+            Piece attacker = PieceFactory.create(attackerType, attackerOwner, null);
+            for (int defenderType = 0; defenderType < Piece.TYPE_COUNT; defenderType++) {
+                Piece defender = PieceFactory.create(defenderType, defenderOwner, null);
+                for (int flags = 0; flags < 8; flags++) {
+                    boolean fromWater = (flags & 4) != 0;
+                    boolean toWater = (flags & 2) != 0;
+                    boolean onTrap = (flags & 1) != 0;
+                    assertEquals(referenceStep(attacker, defender, fromWater, toWater, onTrap),
+                            CaptureRules.stepCapture(attackerType, defenderType, fromWater, toWater, onTrap),
+                            attacker.getName() + " vs " + defender.getName() + " flags " + flags);
+                    checked++;
+                }
+            }
+        }
+        assertEquals(512, checked);
+    }
+
+    @Test
+    @DisplayName("Test jump capture table follows the rank rules")
+    public void testJumpCapturesExhaustive() {
+        for (int attackerType = 0; attackerType < Piece.TYPE_COUNT; attackerType++) {
+            Piece attacker = PieceFactory.create(attackerType, attackerOwner, null);
+            for (int defenderType = 0; defenderType < Piece.TYPE_COUNT; defenderType++) {
+                Piece defender = PieceFactory.create(defenderType, defenderOwner, null);
+                assertEquals(attacker.canCapture(defender), CaptureRules.canJumpCapture(attackerType, defenderType));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test special cases of the capture tables")
+    public void testSpecialCases() {
+        assertEquals(MoveResult.LEGAL, CaptureRules.stepCapture(Piece.RAT, Piece.ELEPHANT, false, false, false));
+        assertEquals(MoveResult.RAT_IN_WATER_VS_ELEPHANT,
+                CaptureRules.stepCapture(Piece.RAT, Piece.ELEPHANT, true, false, false));
+        assertEquals(MoveResult.RANK_TOO_LOW, CaptureRules.stepCapture(Piece.ELEPHANT, Piece.RAT, false, false, false));
+        assertEquals(MoveResult.LEGAL, CaptureRules.stepCapture(Piece.ELEPHANT, Piece.RAT, false, false, true));
+        assertEquals(MoveResult.LEGAL, CaptureRules.stepCapture(Piece.RAT, Piece.RAT, true, true, false));
+        assertFalse(CaptureRules.canJumpCapture(Piece.LION, Piece.ELEPHANT));
+        assertTrue(CaptureRules.canJumpCapture(Piece.TIGER, Piece.RAT));
+    }
+}
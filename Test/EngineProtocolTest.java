@@ -0,0 +1,113 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.controller.EngineProtocol;
+import Java.COMP3211_JungleGame.engine.ParallelSearch;
+import Java.COMP3211_JungleGame.engine.TranspositionTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the line-based engine protocol
+ */
+public class EngineProtocolTest {
+
+    private List<String> runSession(String... commands) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true);
+        ParallelSearch search = new ParallelSearch(
+                new TranspositionTable(1, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED), 1);
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", commands) + "\n"));
+        new EngineProtocol(in, out, search).run();
+        return new ArrayList<>(Arrays.asList(bytes.toString().split("\\R")));
+    }
+
+    @Test
+    @DisplayName("Test handshake and readiness replies")
+    public void testHandshake() throws IOException {
+        List<String> lines = runSession("jungle", "isready", "quit");
+
+        assertEquals("id name Jungle", lines.get(0));
+        assertTrue(lines.contains("jungleok"));
+        assertEquals("readyok", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Test position with moves is applied and reported by board")
+    public void testPositionWithMoves() throws IOException {
+        List<String> lines = runSession("position startpos moves a2a3 G6G5", "board", "quit");
+
+        assertEquals(10, lines.size());
+        assertEquals("board 6 e.w.p..", lines.get(2));
+        assertEquals("board 5 ......r", lines.get(3));
+        assertEquals("board 3 R......", lines.get(5));
+        assertEquals("tomove 0", lines.get(9));
+    }
+
+    @Test
+    @DisplayName("Test position notation is loaded and reported back")
+    public void testPositionNotation() throws IOException {
+        List<String> lines = runSession("position notation 7/7/7/7/7/7/7/3r3/L6 1 moves d1e1", "notation",
+                "position notation 7/7/7 0", "notation", "quit");
+
+        assertEquals("notation 7/7/7/7/7/7/7/4r2/L6 0", lines.get(0));
+        assertTrue(lines.get(1).startsWith("info string error"));
+        assertEquals(lines.get(0), lines.get(2));
+    }
+
+    @Test
+    @DisplayName("Test go prints info lines and a legal bestmove")
+    public void testGoDepth() throws IOException {
+        List<String> lines = runSession("position startpos", "go depth 3", "legal", "quit");
+
+        assertTrue(lines.get(0).startsWith("info depth 1 score"));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("info depth 3 ")));
+        String bestMove = lines.stream().filter(line -> line.startsWith("bestmove ")).findFirst().orElseThrow();
+        String legal = lines.get(lines.size() - 1);
+        assertTrue(legal.startsWith("legal "));
+        assertTrue(Arrays.asList(legal.split(" ")).contains(bestMove.substring("bestmove ".length())));
+    }
+
+    @Test
+    @DisplayName("Test bad commands report errors and leave the position unchanged")
+    public void testErrors() throws IOException {
+        List<String> lines = runSession("position startpos moves a2a3", "move g6g4", "frobnicate",
+                "go depth", "position startpos moves a2a4", "board", "quit");
+
+        assertEquals("info string error illegal move g6g4: Can only move to adjacent squares (or jump water for Lion/Tiger)",
+                lines.get(0));
+        assertEquals("info string error unknown command: frobnicate", lines.get(1));
+        assertEquals("info string error missing value for depth", lines.get(2));
+        assertTrue(lines.get(3).startsWith("info string error illegal move a2a4"));
+        assertEquals("board 3 R......", lines.get(9));
+        assertEquals("tomove 1", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Test stop ends an infinite search with a bestmove")
+    public void testStopInfiniteSearch() throws IOException {
+        List<String> lines = runSession("position startpos moves a2a3", "go infinite", "stop", "quit");
+
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("bestmove ")));
+    }
+
+    @Test
+    @DisplayName("Test stop sent straight after go is not lost")
+    public void testStopRightAfterGo() {
+        // No Lions or Tigers, so no quick forced win: a lost stop would leave the search running
+        List<String> lines = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> runSession("position notation 7/1c3d1/e1w1p1r/7/7/7/R1P1W1E/1D3C1/7 0",
+                        "go infinite", "stop", "quit"));
+
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("bestmove ")));
+    }
+}
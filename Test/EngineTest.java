@@ -0,0 +1,238 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.engine.Evaluator;
+import Java.COMP3211_JungleGame.engine.ParallelSearch;
+import Java.COMP3211_JungleGame.engine.SearchEngine;
+import Java.COMP3211_JungleGame.engine.SearchLimits;
+import Java.COMP3211_JungleGame.engine.SearchResult;
+import Java.COMP3211_JungleGame.engine.TranspositionTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Properties;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the iterative-deepening alpha-beta engine
+ */
+public class EngineTest {
+
+    private SearchEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new SearchEngine(new TranspositionTable(1, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED));
+    }
+
+    /**
+     * Builds a game holding only the given pieces, each written as "symbol owner row col"
+     * (e.g. "D0 8 2"), with the given player to move.
+     */
+    private GameManager buildGame(int currentPlayer, String... pieces) {
+        GameManager game = GameManager.empty(new Player("Alice", 0), new Player("Bob", 1));
+        for (String spec : pieces) {
+            String[] parts = spec.split(" ");
+            game.placePiece(parts[0].charAt(1) - '0', PieceFactory.typeOf(parts[0].charAt(0)),
+                    Position.of(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])).getIndex());
+        }
+        game.setCurrentPlayerIndex(currentPlayer);
+        game.resetPositionHistory();
+        return game;
+    }
+
+    @Test
+    @DisplayName("Test engine enters the opponent den when it can")
+    public void testFindsDenEntry() {
+        GameManager game = buildGame(0, "D0 8 2", "R0 0 0", "E1 4 6", "R1 2 6");
+        SearchResult result = engine.search(game, SearchLimits.depth(4));
+
+        assertTrue(result.hasMove());
+        assertEquals(Move.encode(8 * 7 + 2, 8 * 7 + 3), result.getBestMove());
+        assertTrue(result.isWinScore());
+        assertTrue(result.getScore() > 0);
+    }
+
+    @Test
+    @DisplayName("Test engine stops a den entry one move away")
+    public void testDefendsDen() {
+        // Player 1's Dog threatens to step into player 0's den; only the Wolf can take it first
+        GameManager game = buildGame(0, "W0 1 2", "E0 6 6", "D1 1 3", "E1 8 6");
+        SearchResult result = engine.search(game, SearchLimits.depth(3));
+
+        assertEquals(Move.encode(1 * 7 + 2, 1 * 7 + 3), result.getBestMove());
+    }
+
+    @Test
+    @DisplayName("Test engine captures an undefended piece")
+    public void testCapturesHangingPiece() {
+        GameManager game = buildGame(0, "L0 6 0", "R0 0 0", "D1 7 0", "C1 8 6");
+        SearchResult result = engine.search(game, SearchLimits.depth(2));
+
+        assertEquals(Move.encode(6 * 7, 7 * 7), result.getBestMove());
+        assertTrue(result.getScore() > 0);
+    }
+
+    @Test
+    @DisplayName("Test node limit is respected and a move is still returned")
+    public void testNodeLimit() {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        SearchResult result = engine.search(game, SearchLimits.nodes(5000));
+
+        assertTrue(result.hasMove());
+        assertTrue(result.getNodes() <= 5000);
+    }
+
+    @Test
+    @DisplayName("Test time limit ends the search promptly")
+    public void testTimeLimit() {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        long start = System.currentTimeMillis();
+        SearchResult result = engine.search(game, SearchLimits.time(200));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(result.hasMove());
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(elapsed < 2000, "Search took " + elapsed + " ms");
+    }
+
+    @Test
+    @DisplayName("Test search leaves the caller's game untouched and returns a legal move")
+    public void testDoesNotMutateInput() {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        long hash = game.getPositionHash();
+        SearchResult result = engine.search(game, SearchLimits.depth(4));
+
+        assertEquals(hash, game.getPositionHash());
+        assertEquals(0, game.getCurrentPlayerIndex());
+        assertEquals(8, game.getPlayer(0).getPieces().size());
+        assertEquals(8, game.getPlayer(1).getPieces().size());
+
+        int move = result.getBestMove();
+        assertTrue(game.checkMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move))).isLegal());
+        int[] pv = result.getPrincipalVariation();
+        assertTrue(pv.length >= 1);
+        assertEquals(move, pv[0]);
+    }
+
+    @Test
+    @DisplayName("Test game with no pieces left to move returns no move")
+    public void testFinishedGame() {
+        GameManager game = buildGame(0, "D0 8 2", "R0 0 0", "E1 4 6");
+        game.executeMove(Position.of(8, 2), Position.of(8, 3));
+        SearchResult result = engine.search(game, SearchLimits.depth(3));
+
+        assertFalse(result.hasMove());
+        assertEquals(0, result.getDepth());
+    }
+
+    @Test
+    @DisplayName("Test parallel search finds the same forced moves as a single thread")
+    public void testParallelSearchFindsForcedMoves() {
+        ParallelSearch search = new ParallelSearch(
+                new TranspositionTable(1, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED), 3);
+        try {
+            GameManager denEntry = buildGame(0, "D0 8 2", "R0 0 0", "E1 4 6", "R1 2 6");
+            SearchResult result = search.search(denEntry, SearchLimits.depth(4));
+            assertEquals(Move.encode(8 * 7 + 2, 8 * 7 + 3), result.getBestMove());
+            assertTrue(result.isWinScore());
+
+            GameManager defence = buildGame(0, "W0 1 2", "E0 6 6", "D1 1 3", "E1 8 6");
+            result = search.search(defence, SearchLimits.depth(3));
+            assertEquals(Move.encode(1 * 7 + 2, 1 * 7 + 3), result.getBestMove());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel search respects the time limit and leaves the input untouched")
+    public void testParallelSearchTimeLimit() {
+        ParallelSearch search = new ParallelSearch(
+                new TranspositionTable(1, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED), 4);
+        try {
+            GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            game.executeMove(Position.of(2, 0), Position.of(3, 0));
+            game.confirmTurn();
+            long hash = game.getPositionHash();
+
+            long start = System.currentTimeMillis();
+            SearchResult result = search.search(game, SearchLimits.time(200));
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(result.hasMove());
+            assertTrue(elapsed < 2000, "Search took " + elapsed + " ms");
+            assertEquals(hash, game.getPositionHash());
+            int move = result.getBestMove();
+            assertTrue(game.checkMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move))).isLegal());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test incremental evaluation matches a fresh sum through make and unmake")
+    public void testIncrementalEvaluation() {
+        Evaluator evaluator = new Evaluator();
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        assertEquals(0, evaluator.evaluate(game), "Start position is symmetric");
+        assertNull(game.getBoard().getScoreTable(), "Evaluating should not change the board");
+        evaluator.install(game.getBoard());
+
+        Random random = new Random(11);
+        MoveBuffer buffer = new MoveBuffer();
+        int[] moves = new int[60];
+        int[] tokens = new int[60];
+        int played = 0;
+        while (played < moves.length && !game.isGameOver()) {
+            game.generateLegalMoves(game.getCurrentPlayerIndex(), buffer);
+            moves[played] = buffer.get(random.nextInt(buffer.size()));
+            tokens[played] = game.makeMove(moves[played]);
+            played++;
+            Board fresh = game.getBoard().copy();
+            fresh.setScoreTable(game.getBoard().getScoreTable());
+            assertEquals(fresh.getScore(), game.getBoard().getScore());
+        }
+        while (played > 0) {
+            played--;
+            game.unmakeMove(moves[played], tokens[played]);
+        }
+        assertEquals(0, evaluator.evaluate(game));
+    }
+
+    @Test
+    @DisplayName("Test evaluation weights come from properties")
+    public void testEvaluationWeights() {
+        Properties weights = new Properties();
+        weights.setProperty("material.rank", "50");
+        weights.setProperty("material.jumper", "0");
+        weights.setProperty("material.rat", "700");
+        weights.setProperty("trap.attack", "200");
+        Evaluator evaluator = new Evaluator(weights);
+        assertEquals(700, evaluator.pieceValue(Piece.RAT));
+        assertEquals(350, evaluator.pieceValue(6));
+        assertEquals(1000, evaluator.pieceValue(Piece.ELEPHANT));
+        assertEquals(200, evaluator.squareValue(1, 8 * 7 + 2) - evaluator.squareValue(1, 8 * 7 + 1) - 10);
+
+        GameManager game = buildGame(0, "C0 7 3", "C1 1 0");
+        int score = evaluator.evaluate(game);
+        assertTrue(score > 0);
+        game.setCurrentPlayerIndex(1);
+        assertEquals(-score, evaluator.evaluate(game));
+
+        evaluator.install(game.getBoard());
+        assertEquals(-score, evaluator.evaluate(game), "Installed table should give the same score");
+    }
+
+    @Test
+    @DisplayName("Test weights that could reach win scores are rejected")
+    public void testEvaluationWeightBound() {
+        Properties weights = new Properties();
+        weights.setProperty("material.rank", "1000");
+        assertThrows(IllegalArgumentException.class, () -> new Evaluator(weights));
+
+        weights.setProperty("material.rank", "-1000");
+        assertThrows(IllegalArgumentException.class, () -> new Evaluator(weights));
+    }
+}
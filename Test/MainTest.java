@@ -515,6 +515,67 @@ public class MainTest {
         }, "Cannot create position with column >= 7");
     }
 
+    @Test
+    @DisplayName("Test checkMove reports rule codes without changing the board")
+    public void testCheckMoveResultCodes() {
+        assertEquals(MoveResult.LEGAL, gameManager.checkMove(new Position(2, 0), new Position(3, 0)));
+        assertEquals(MoveResult.NOT_ADJACENT, gameManager.checkMove(new Position(2, 0), new Position(3, 1)));
+        assertEquals(MoveResult.NO_PIECE, gameManager.checkMove(new Position(4, 3), new Position(4, 4)));
+        assertEquals(MoveResult.NOT_YOUR_PIECE, gameManager.checkMove(new Position(6, 6), new Position(5, 6)));
+        assertEquals(MoveResult.WATER_FORBIDDEN, gameManager.checkMove(new Position(2, 2), new Position(3, 2)));
+
+        MoveResult result = gameManager.tryExecuteMove(new Position(1, 1), new Position(3, 1));
+        assertEquals(MoveResult.NOT_ADJACENT, result);
+        assertNotNull(board.getPieceAt(new Position(1, 1)), "Rejected move should leave the board unchanged");
+        assertEquals("Can only move to adjacent squares (or jump water for Lion/Tiger)",
+                gameManager.describeMoveResult(result, new Position(1, 1), new Position(3, 1)));
+    }
+
+    @Test
+    @DisplayName("Test rank message matches the exception thrown by executeMove")
+    public void testRankMessageMatchesException() {
+        Position catPos = new Position(3, 3);
+        Position dogPos = new Position(4, 3);
+        setupCustomBoard(
+                new CustomPiece(new Cat(player0, catPos), catPos),
+                new CustomPiece(new Dog(player1, dogPos), dogPos)
+        );
+
+        assertEquals(MoveResult.RANK_TOO_LOW, gameManager.checkMove(catPos, dogPos));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
+            gameManager.executeMove(catPos, dogPos);
+        });
+        assertEquals("Cat (rank 2) cannot capture Dog (rank 3)", e.getMessage());
+        assertEquals(e.getMessage(), gameManager.describeMoveResult(MoveResult.RANK_TOO_LOW, catPos, dogPos));
+    }
+
+    @Test
+    @DisplayName("Test Position factories return shared instances")
+    public void testPositionFactoriesAreInterned() {
+        assertSame(Position.of(4, 3), Position.of(4, 3), "Same square should give the same instance");
+        assertSame(Position.of(4, 3), Position.ofIndex(4 * 7 + 3));
+        assertEquals(new Position(4, 3), Position.of(4, 3));
+        assertEquals(new Position(4, 3).hashCode(), Position.of(4, 3).hashCode());
+        assertEquals(31, Position.of(4, 3).getIndex());
+
+        assertThrows(IllegalArgumentException.class, () -> Position.of(9, 0));
+        assertThrows(IllegalArgumentException.class, () -> Position.ofIndex(63));
+    }
+
+    @Test
+    @DisplayName("Test square-index board access matches Position access")
+    public void testSquareIndexBoardAccess() {
+        int ratSquare = Position.of(2, 0).getIndex();
+        Piece rat = board.getPieceAt(ratSquare);
+        assertSame(board.getPieceAt(new Position(2, 0)), rat);
+
+        board.setPieceAt(ratSquare, null);
+        board.setPieceAt(Position.of(3, 0).getIndex(), rat);
+        assertNull(board.getPieceAt(Position.of(2, 0)));
+        assertSame(rat, board.getPieceAt(Position.of(3, 0)));
+        assertSame(Position.of(3, 0), rat.getPosition(), "Piece should hold the shared Position");
+    }
+
     // ========== UNDO TESTS ==========
 
     @Test
@@ -667,6 +728,21 @@ public class MainTest {
         assertTrue(board.isDen(new Position(8, 3), 1), "Player 1 den at (8,3)");
     }
 
+    @Test
+    @DisplayName("Test board masks track piece placement and removal")
+    public void testBoardMasksTrackOccupancy() {
+        int ratSquare = 2 * 7 + 0;
+        assertEquals(1L << ratSquare, board.getPieceMask(0, board.getPieceAt(new Position(2, 0)).getTypeIndex()));
+        assertEquals(8, Long.bitCount(board.getOccupancy(0)), "Player 0 starts with 8 pieces");
+        assertEquals(16, Long.bitCount(board.getOccupancy()), "Board starts with 16 pieces");
+
+        gameManager.executeMove(new Position(2, 0), new Position(3, 0));
+
+        assertEquals(1L << (3 * 7), board.getPieceMask(0, 0), "Rat mask should follow the move");
+        assertEquals(0L, board.getOccupancy() & (1L << ratSquare), "Vacated square should be empty");
+        assertEquals(12, Long.bitCount(Board.getWaterMask()), "There are 12 water squares");
+    }
+
     // ========== EDGE CASE TESTS ==========
 
     @Test
@@ -720,4 +796,126 @@ public class MainTest {
         gameManager.confirmTurn();
         assertEquals(2, recorder.getMoveCount(), "Should have 2 moves recorded");
     }
+
+    @Test
+    @DisplayName("Test board copy does not share pieces with the original")
+    public void testBoardCopyIsDeep() {
+        Board copy = board.copy();
+        Piece original = board.getPieceAt(new Position(2, 0));
+        Piece copied = copy.getPieceAt(new Position(2, 0));
+
+        assertNotSame(original, copied);
+        assertEquals(original.getName(), copied.getName());
+        assertSame(original.getOwner(), copied.getOwner());
+        assertEquals(board.getHash(), copy.getHash());
+
+        copy.removePieceAt(new Position(2, 0));
+        copy.setPieceAt(new Position(3, 0), copied);
+        assertEquals(new Position(2, 0), original.getPosition(), "Original piece should not move");
+        assertSame(original, board.getPieceAt(new Position(2, 0)));
+        assertEquals(8, player0.getPieces().size(), "Owner's piece list should be unchanged");
+    }
+
+    @Test
+    @DisplayName("Test game copy gives each copy its own players and pieces")
+    public void testGameCopyIsIndependent() {
+        GameManager copy = gameManager.copy();
+        Piece copied = copy.getBoard().getPieceAt(new Position(2, 0));
+
+        assertNotSame(player0, copied.getOwner());
+        assertSame(copy.getPlayer(0), copied.getOwner());
+        assertEquals(8, copy.getPlayer(0).getPieces().size());
+        assertEquals(gameManager.getPositionHash(), copy.getPositionHash());
+
+        copy.executeMove(new Position(2, 0), new Position(3, 0));
+        assertEquals(new Position(2, 0), board.getPieceAt(new Position(2, 0)).getPosition());
+        assertNull(board.getPieceAt(new Position(3, 0)));
+    }
+
+    @Test
+    @DisplayName("Test move text round-trips through parse and toString")
+    public void testMoveParse() {
+        int move = Move.parse("a2A3");
+        assertEquals(2 * 7, Move.getFrom(move));
+        assertEquals(3 * 7, Move.getTo(move));
+        assertEquals("A2A3", Move.toString(move));
+        assertEquals(Move.encode(62, 55), Move.parse(" G8G7 "));
+
+        assertThrows(IllegalArgumentException.class, () -> Move.parse("A2"));
+        assertThrows(IllegalArgumentException.class, () -> Move.parse("H2A3"));
+        assertThrows(IllegalArgumentException.class, () -> Move.parse("A9A8"));
+    }
+
+    @Test
+    @DisplayName("Test player material counters follow captures and undo")
+    public void testPlayerCounters() {
+        assertEquals(8, player1.getLiveCount());
+        assertEquals(0xFF, player1.getLiveTypes());
+        assertEquals(36, player1.getMaterial(), "Ranks 1 to 8 sum to 36");
+
+        Position attackerPos = new Position(3, 3);
+        Position victimPos = new Position(4, 3);
+        Piece dog = new Dog(player0, attackerPos);
+        Piece cat = new Cat(player1, victimPos);
+        setupCustomBoard(new CustomPiece(dog, attackerPos), new CustomPiece(cat, victimPos));
+        assertEquals(1, player1.getLiveCount());
+        assertTrue(player1.hasLiveType(1));
+        assertEquals(2, player1.getMaterial());
+
+        gameManager.executeMove(attackerPos, victimPos);
+        assertEquals(0, player1.getLiveCount());
+        assertEquals(0, player1.getLiveTypes());
+        assertEquals(0, player1.getMaterial());
+        assertTrue(player1.hasLost());
+
+        gameManager.undoMove();
+        assertEquals(1, player1.getLiveCount());
+        assertEquals(1, player1.getLiveCount(1));
+        assertFalse(player1.hasLost());
+    }
+
+    @Test
+    @DisplayName("Test player counters follow search make and unmake")
+    public void testPlayerCountersMakeUnmake() {
+        Position attackerPos = new Position(3, 3);
+        Position victimPos = new Position(4, 3);
+        Piece lion = new Lion(player0, attackerPos);
+        Piece wolf = new Wolf(player1, victimPos);
+        Piece rat = new Rat(player1, new Position(8, 0));
+        setupCustomBoard(new CustomPiece(lion, attackerPos), new CustomPiece(wolf, victimPos),
+                new CustomPiece(rat, new Position(8, 0)));
+
+        int move = Move.encode(attackerPos.getIndex(), victimPos.getIndex());
+        int token = gameManager.makeMove(move);
+        assertEquals(1, player1.getLiveCount());
+        assertEquals(1, player1.getLiveTypes(), "Only the Rat is left");
+        assertEquals(1, player1.getMaterial());
+        assertEquals(2, player1.getPieceCount(), "makeMove leaves the piece list alone");
+
+        gameManager.unmakeMove(move, token);
+        assertEquals(2, player1.getLiveCount());
+        assertEquals(5, player1.getMaterial());
+    }
+
+    @Test
+    @DisplayName("Test removing a piece from a player keeps the others")
+    public void testPlayerRemovePiece() {
+        Player player = new Player("Carol", 0);
+        Piece[] pieces = new Piece[12];
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = PieceFactory.create(i % 8, player, Position.of(0, 0));
+            player.addPiece(pieces[i]);
+        }
+        player.addPiece(pieces[0]);
+        assertEquals(12, player.getPieceCount(), "Adding a piece twice keeps one entry");
+        player.removePiece(pieces[3]);
+        player.removePiece(pieces[3]);
+        player.removePiece(pieces[0]);
+        assertEquals(10, player.getPieceCount());
+        assertFalse(player.getPieces().contains(pieces[3]));
+        assertTrue(player.getPieces().contains(pieces[11]));
+        assertEquals(1, player.getLiveCount(0), "One of the two Rats is left");
+        assertEquals(1, player.getLiveCount(3));
+        assertEquals(2, player.getLiveCount(2));
+    }
 }
@@ -0,0 +1,87 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the search-oriented makeMove/unmakeMove pair
+ */
+public class MakeUnmakeTest {
+
+    private static Position positionOf(int square) {
+        return Position.ofIndex(square);
+    }
+
+    @Test
+    @DisplayName("Test makeMove matches executeMove and confirmTurn along random games")
+    public void testMatchesPublicApi() {
+        Random random = new Random(42);
+        MoveBuffer moves = new MoveBuffer();
+        for (int game = 0; game < 20; game++) {
+            GameManager search = new GameManager(new Player("A", 0), new Player("B", 1));
+            GameManager reference = new GameManager(new Player("A", 0), new Player("B", 1));
+            for (int ply = 0; ply < 200 && !reference.isGameOver(); ply++) {
+                search.generateLegalMoves(search.getCurrentPlayerIndex(), moves);
+                if (moves.isEmpty()) {
+                    break;
+                }
+                int move = moves.get(random.nextInt(moves.size()));
+
+                reference.executeMove(positionOf(Move.getFrom(move)), positionOf(Move.getTo(move)));
+                reference.confirmTurn();
+                search.makeMove(move);
+
+                assertEquals(reference.getPositionHash(), search.getPositionHash());
+                assertEquals(reference.isGameOver(), search.isGameOver());
+                assertEquals(reference.getWinner(), search.getWinner());
+                assertEquals(reference.getCurrentPlayerIndex(), search.getCurrentPlayerIndex());
+            }
+            assertEquals(0, search.getGameRecord().getMoveCount(), "makeMove should not record history");
+        }
+    }
+
+    @Test
+    @DisplayName("Test unmakeMove restores board, captures and win state")
+    public void testUnmakeRestoresState() {
+        Random random = new Random(7);
+        MoveBuffer moves = new MoveBuffer();
+        GameManager game = new GameManager(new Player("A", 0), new Player("B", 1));
+        int[] played = new int[300];
+        int[] tokens = new int[300];
+        long[] hashes = new long[300];
+        int depth = 0;
+        while (depth < played.length && !game.isGameOver()) {
+            game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+            if (moves.isEmpty()) {
+                break;
+            }
+            hashes[depth] = game.getPositionHash();
+            played[depth] = moves.get(random.nextInt(moves.size()));
+            tokens[depth] = game.makeMove(played[depth]);
+            depth++;
+        }
+        assertTrue(depth > 10, "Random game should last a while");
+
+        while (depth > 0) {
+            depth--;
+            game.unmakeMove(played[depth], tokens[depth]);
+            assertEquals(hashes[depth], game.getPositionHash(), "Hash should be restored at ply " + depth);
+            assertFalse(game.isGameOver());
+            assertNull(game.getWinner());
+        }
+
+        GameManager fresh = new GameManager(new Player("A", 0), new Player("B", 1));
+        assertEquals(fresh.getPositionHash(), game.getPositionHash());
+        for (int square = 0; square < 63; square++) {
+            Piece piece = game.getBoard().getPieceAt(square);
+            if (piece != null) {
+                assertFalse(piece.isCaptured(), "Restored pieces should not be marked captured");
+                assertEquals(square, piece.getPosition().getIndex(), "Piece position should be restored");
+            }
+        }
+        assertEquals(8, game.getPlayer(1).getActivePieces().size());
+    }
+}
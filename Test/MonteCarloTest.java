@@ -0,0 +1,149 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.engine.MonteCarloResult;
+import Java.COMP3211_JungleGame.engine.MonteCarloSearch;
+import Java.COMP3211_JungleGame.engine.SearchLimits;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Monte Carlo tree search engine
+ */
+public class MonteCarloTest {
+
+    /**
+     * Builds a game holding only the given pieces, each written as "symbol owner row col"
+     * (e.g. "D0 8 2"), with the given player to move.
+     */
+    private GameManager buildGame(int currentPlayer, String... pieces) {
+        GameManager game = GameManager.empty(new Player("Alice", 0), new Player("Bob", 1));
+        for (String spec : pieces) {
+            String[] parts = spec.split(" ");
+            game.placePiece(parts[0].charAt(1) - '0', PieceFactory.typeOf(parts[0].charAt(0)),
+                    Position.of(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])).getIndex());
+        }
+        game.setCurrentPlayerIndex(currentPlayer);
+        game.resetPositionHistory();
+        return game;
+    }
+
+    @Test
+    @DisplayName("Test playout limit is exact and every playout is counted at the root")
+    public void testPlayoutLimit() {
+        MonteCarloSearch search = new MonteCarloSearch(1, 7);
+        try {
+            GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            MonteCarloResult result = search.search(game, SearchLimits.nodes(2000));
+
+            assertEquals(2000, result.getPlayouts());
+            long visits = 0;
+            for (int i = 0; i < result.getRootMoveCount(); i++) {
+                visits += result.getRootVisits(i);
+                assertTrue(result.getRootValue(i) >= 0 && result.getRootValue(i) <= 1);
+            }
+            assertEquals(2000, visits);
+            assertTrue(result.hasMove());
+            assertTrue(result.getPlayoutsPerSecond() > 0);
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test search leaves the caller's game and record untouched")
+    public void testDoesNotMutateInput() {
+        MonteCarloSearch search = new MonteCarloSearch(2, 11);
+        try {
+            GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            game.executeMove(Position.of(2, 0), Position.of(3, 0));
+            game.confirmTurn();
+            long hash = game.getPositionHash();
+
+            MonteCarloResult result = search.search(game, SearchLimits.nodes(3000));
+
+            assertEquals(hash, game.getPositionHash());
+            assertEquals(1, game.getCurrentPlayerIndex());
+            assertEquals(1, game.getGameRecord().getMoveCount());
+            assertEquals(3000, result.getPlayouts());
+            int move = result.getBestMove();
+            assertTrue(game.checkMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move))).isLegal());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test search prefers an immediate den entry")
+    public void testFindsDenEntry() {
+        MonteCarloSearch search = new MonteCarloSearch(2, 3);
+        try {
+            GameManager game = buildGame(0, "D0 8 2", "R0 0 0", "E1 4 6", "R1 2 6");
+            MonteCarloResult result = search.search(game, SearchLimits.nodes(2000));
+
+            assertEquals(Move.encode(8 * 7 + 2, 8 * 7 + 3), result.getBestMove());
+            assertEquals(1.0, result.getWinRate(), 1e-9);
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test finished game gives no move")
+    public void testFinishedGame() {
+        MonteCarloSearch search = new MonteCarloSearch(1, 5);
+        try {
+            GameManager game = buildGame(0, "D0 8 2", "R0 0 0", "E1 4 6");
+            game.executeMove(Position.of(8, 2), Position.of(8, 3));
+            MonteCarloResult result = search.search(game, SearchLimits.nodes(100));
+
+            assertFalse(result.hasMove());
+            assertEquals(0, result.getPlayouts());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test unvisited root moves are tried in random order")
+    public void testUnvisitedTieBreak() {
+        MonteCarloSearch search = new MonteCarloSearch(1, 7);
+        try {
+            GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            MonteCarloResult result = search.search(game, SearchLimits.nodes(6));
+            boolean skipped = false;
+            int visited = 0;
+            for (int i = 0; i < result.getRootMoveCount(); i++) {
+                if (result.getRootVisits(i) > 0) {
+                    visited++;
+                } else if (visited < 5) {
+                    skipped = true;
+                }
+            }
+            assertTrue(visited >= 5);
+            assertTrue(skipped, "Unvisited moves should not always be taken in generation order");
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test a stop sent before the search starts is kept until reset")
+    public void testStopBeforeStart() {
+        MonteCarloSearch search = new MonteCarloSearch(1, 7);
+        try {
+            GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            search.stop();
+            MonteCarloResult stopped = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> search.search(game, SearchLimits.time(60_000)));
+            assertEquals(0, stopped.getPlayouts());
+
+            search.resetStop();
+            assertEquals(100, search.search(game, SearchLimits.nodes(100)).getPlayouts());
+        } finally {
+            search.shutdown();
+        }
+    }
+}
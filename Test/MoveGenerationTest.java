@@ -0,0 +1,140 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the allocation-free move generator against the exception-based rules in executeMove
+ */
+public class MoveGenerationTest {
+
+    /**
+     * Builds a fresh game holding only the given pieces, encoded as player * 8 + type per square
+     * (-1 for empty), with the given player to move.
+     */
+    private GameManager buildGame(int[] layout, int currentPlayer) {
+        GameManager game = GameManager.empty(new Player("Alice", 0), new Player("Bob", 1));
+        for (int square = 0; square < 63; square++) {
+            if (layout[square] >= 0) {
+                game.placePiece(layout[square] / 8, layout[square] % 8, square);
+            }
+        }
+        game.setCurrentPlayerIndex(currentPlayer);
+        game.resetPositionHistory();
+        return game;
+    }
+
+    private int[] layoutOf(Board board) {
+        int[] layout = new int[63];
+        for (int square = 0; square < 63; square++) {
+            Piece piece = board.getPieceAt(new Position(square / 7, square % 7));
+            layout[square] = piece == null ? -1 : piece.getOwner().getPlayerId() * 8 + piece.getTypeIndex();
+        }
+        return layout;
+    }
+
+    private boolean legalByException(int[] layout, int player, int from, int to) {
+        GameManager scratch = buildGame(layout, player);
+        try {
+            scratch.executeMove(new Position(from / 7, from % 7), new Position(to / 7, to % 7));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void assertMatchesExceptionRules(int[] layout) {
+        GameManager game = buildGame(layout, 0);
+        MoveBuffer buffer = new MoveBuffer();
+        for (int player = 0; player < 2; player++) {
+            game.generateLegalMoves(player, buffer);
+            int expectedCount = 0;
+            for (int from = 0; from < 63; from++) {
+                if (layout[from] < 0 || layout[from] / 8 != player) {
+                    continue;
+                }
+                for (int to = 0; to < 63; to++) {
+                    boolean expected = legalByException(layout, player, from, to);
+                    if (expected) {
+                        expectedCount++;
+                    }
+                    assertEquals(expected, buffer.contains(Move.encode(from, to)),
+                            "Player " + player + " move " + Move.toString(Move.encode(from, to)));
+                }
+            }
+            assertEquals(expectedCount, buffer.size(), "Generator should not emit duplicate moves");
+        }
+    }
+
+    @Test
+    @DisplayName("Test generator matches executeMove from the starting position")
+    public void testStartingPosition() {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        assertMatchesExceptionRules(layoutOf(game.getBoard()));
+    }
+
+    @Test
+    @DisplayName("Test generator matches executeMove on random placements")
+    public void testRandomPlacements() {
+        Random random = new Random(3211);
+        for (int trial = 0; trial < 40; trial++) {
+            int[] layout = new int[63];
+            java.util.Arrays.fill(layout, -1);
+            int pieces = 2 + random.nextInt(10);
+            for (int i = 0; i < pieces; i++) {
+                layout[random.nextInt(63)] = random.nextInt(16);
+            }
+            assertMatchesExceptionRules(layout);
+        }
+    }
+
+    @Test
+    @DisplayName("Test generator covers river jumps and rat blocking")
+    public void testRiverJumps() {
+        int[] layout = new int[63];
+        java.util.Arrays.fill(layout, -1);
+        layout[3 * 7] = 6;              // Player 0 Lion at (3,0)
+        layout[2 * 7 + 4] = 5;          // Player 0 Tiger at (2,4)
+        layout[4 * 7 + 4] = 8;          // Player 1 Rat in water at (4,4)
+        layout[3 * 7 + 3] = 8 + 1;      // Player 1 Cat at (3,3)
+        assertMatchesExceptionRules(layout);
+
+        GameManager game = buildGame(layout, 0);
+        MoveBuffer buffer = new MoveBuffer();
+        game.generateLegalMoves(0, buffer);
+        assertTrue(buffer.contains(Move.encode(3 * 7, 3 * 7 + 3)), "Lion should jump and capture the Cat");
+        assertFalse(buffer.contains(Move.encode(2 * 7 + 4, 6 * 7 + 4)), "Rat should block the Tiger");
+    }
+
+    @Test
+    @DisplayName("Test river jump tables list landings and the water passed over")
+    public void testRiverJumpTables() {
+        int from = 3 * 7;
+        long expectedWater = (1L << (3 * 7 + 1)) | (1L << (3 * 7 + 2));
+        assertEquals(expectedWater, RiverJumps.waterBetween(from, 3 * 7 + 3));
+        assertEquals(0L, RiverJumps.waterBetween(from, 2 * 7), "Adjacent squares pass over nothing");
+        assertEquals(0L, RiverJumps.waterBetween(from, 4 * 7 + 3), "Squares not in line are not jumps");
+
+        boolean found = false;
+        for (int i = 0; i < RiverJumps.landingCount(from); i++) {
+            int landing = RiverJumps.landingSquare(from, i);
+            assertEquals(RiverJumps.waterBetween(from, landing), RiverJumps.landingWater(from, i));
+            found |= landing == 3 * 7 + 3;
+        }
+        assertTrue(found, "(3,3) should be a landing square from (3,0)");
+    }
+
+    @Test
+    @DisplayName("Test generator reuses its buffer")
+    public void testBufferIsReused() {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        MoveBuffer buffer = new MoveBuffer();
+        int first = game.generateLegalMoves(0, buffer);
+        int second = game.generateLegalMoves(0, buffer);
+        assertEquals(first, second, "Buffer should be cleared before generating");
+        assertEquals(first, buffer.size());
+    }
+}
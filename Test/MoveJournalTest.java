@@ -0,0 +1,106 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.components.Animals.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the packed move journal behind GameRecorder
+ */
+public class MoveJournalTest {
+
+    private final Player player0 = new Player("Alice", 0);
+    private final Player player1 = new Player("Bob", 1);
+
+    @Test
+    @DisplayName("Test entries pack and unpack every field")
+    public void testEncoding() {
+        for (int mover = 0; mover < Piece.TYPE_COUNT; mover++) {
+            for (int captured = -1; captured < Piece.TYPE_COUNT; captured++) {
+                int entry = MoveJournal.encode(62, 55, mover, captured, 1);
+                assertEquals(62, MoveJournal.fromOf(entry));
+                assertEquals(55, MoveJournal.toOf(entry));
+                assertEquals(Move.encode(62, 55), MoveJournal.moveOf(entry));
+                assertEquals(mover, MoveJournal.moverTypeOf(entry));
+                assertEquals(captured, MoveJournal.capturedTypeOf(entry));
+                assertEquals(captured >= 0, MoveJournal.isCapture(entry));
+                assertEquals(1, MoveJournal.playerOf(entry));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test journal grows, keeps piece references and takes moves back")
+    public void testGrowAndRemove() {
+        MoveJournal journal = new MoveJournal();
+        Piece lion = new Lion(player0, Position.of(0, 0));
+        Piece rat = new Rat(player1, Position.of(1, 0));
+        for (int i = 0; i < 200; i++) {
+            journal.add(i % 63, (i + 1) % 63, lion, i % 10 == 0 ? rat : null, i & 1);
+        }
+        assertEquals(200, journal.size());
+        assertSame(rat, journal.capturedAt(100));
+        assertNull(journal.capturedAt(101));
+        assertSame(lion, journal.moverAt(199));
+        assertEquals(0, journal.timestampAt(5), "Timestamps are off by default");
+
+        int last = journal.removeLast();
+        assertEquals(199 % 63, MoveJournal.fromOf(last));
+        assertEquals(199, journal.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> journal.get(199));
+    }
+
+    @Test
+    @DisplayName("Test views read the journal without copying")
+    public void testViews() {
+        MoveJournal journal = new MoveJournal(true);
+        Piece dog = new Dog(player0, Position.of(1, 1));
+        journal.add(8, 15, dog, null, 0);
+        journal.add(15, 22, dog, null, 0);
+        journal.add(22, 29, dog, null, 0);
+        assertTrue(journal.timestampAt(0) > 0);
+
+        MoveJournal.View all = journal.view();
+        MoveJournal.View tail = journal.view(1, 3);
+        assertEquals(3, all.size());
+        assertEquals(2, tail.size());
+        assertEquals(Move.encode(15, 22), tail.moveAt(0));
+        assertArrayEquals(new int[]{Move.encode(15, 22), Move.encode(22, 29)}, tail.toMoveArray());
+
+        PrimitiveIterator.OfInt iterator = all.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertEquals(journal.get(count), iterator.nextInt());
+            count++;
+        }
+        assertEquals(3, count);
+
+        journal.removeLast();
+        assertThrows(IndexOutOfBoundsException.class, () -> tail.get(1), "View outlived its range");
+        assertThrows(IndexOutOfBoundsException.class, () -> journal.view(0, 5));
+    }
+
+    @Test
+    @DisplayName("Test recorder still answers with Motions objects")
+    public void testMotionsCompatibility() {
+        GameManager game = new GameManager(player0, player1);
+        game.executeMove(Position.of(2, 0), Position.of(3, 0));
+        game.confirmTurn();
+        game.executeMove(Position.of(6, 6), Position.of(5, 6));
+        game.confirmTurn();
+
+        GameRecorder recorder = game.getGameRecord();
+        List<Motions> moves = recorder.getAllMoves();
+        assertEquals(2, moves.size());
+        assertEquals(Position.of(2, 0), moves.get(0).getFrom());
+        assertEquals("Rat", moves.get(1).getMovedPiece().getName());
+        assertEquals(1, moves.get(1).getPlayerIndex());
+        assertFalse(recorder.peekLastMove().isCapture());
+        assertEquals(Move.encode(6 * 7 + 6, 5 * 7 + 6), recorder.getMoves().moveAt(1));
+        assertNull(recorder.getLastCapturedPiece());
+    }
+}
@@ -0,0 +1,186 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.controller.FileManager;
+import Java.COMP3211_JungleGame.engine.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for building and probing the opening book
+ */
+public class OpeningBookTest {
+
+    private Path dir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("jungle-book");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        File[] files = dir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.toFile().delete();
+    }
+
+    private GameManager newGame() {
+        return new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+    }
+
+    /**
+     * Plays the moves (A2A3 form) and saves the game as a record file.
+     */
+    private void writeRecord(String name, GameManager game, String... moves) throws IOException {
+        for (String text : moves) {
+            int move = Move.parse(text);
+            game.executeMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move)));
+            game.confirmTurn();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(dir.resolve(name + ".record"))) {
+            new FileManager().writeRecord(writer, game.getGameRecord());
+        }
+    }
+
+    @Test
+    @DisplayName("Test book counts moves per position, most played first")
+    public void testBuildAndLookup() throws IOException {
+        writeRecord("a", newGame(), "A2A3", "G6G5", "A3A4");
+        writeRecord("b", newGame(), "A2A3", "A6A5");
+        writeRecord("c", newGame(), "G2G3");
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(OpeningBookBuilder.DEFAULT_MAX_PLY);
+        builder.addDirectory(dir);
+        Path bookFile = dir.resolve("test.book");
+        assertEquals(5, builder.write(bookFile, 1));
+        assertEquals(3, builder.getGameCount());
+        assertEquals(0, builder.getRejectedGameCount());
+
+        OpeningBook book = OpeningBook.open(bookFile);
+        GameManager game = newGame();
+        List<OpeningBook.BookMove> moves = book.lookup(game);
+        assertEquals(2, moves.size());
+        assertEquals(Move.parse("A2A3"), moves.get(0).getMove());
+        assertEquals(2, moves.get(0).getCount());
+        assertEquals(Move.parse("G2G3"), moves.get(1).getMove());
+        assertEquals(1, moves.get(1).getCount());
+        assertEquals(Move.parse("A2A3"), book.bestMove(game, 1));
+        assertEquals(Move.NONE, book.bestMove(game, 3));
+
+        game.executeMove(Position.of(2, 0), Position.of(3, 0));
+        game.confirmTurn();
+        assertEquals(2, book.lookup(game).size());
+
+        game.executeMove(Position.of(6, 0), Position.of(5, 0));
+        game.confirmTurn();
+        assertTrue(book.lookup(game).isEmpty(), "Position after b's last move has no continuation");
+    }
+
+    @Test
+    @DisplayName("Test min count filters rare moves and max ply limits depth")
+    public void testFilters() throws IOException {
+        writeRecord("a", newGame(), "A2A3", "G6G5", "A3A4");
+        writeRecord("b", newGame(), "A2A3", "G6G5", "G2G3");
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(2);
+        builder.addDirectory(dir);
+        Path bookFile = dir.resolve("test.book");
+        assertEquals(2, builder.write(bookFile, 2));
+
+        OpeningBook book = OpeningBook.open(bookFile);
+        GameManager game = newGame();
+        assertEquals(Move.parse("A2A3"), book.bestMove(game, 1));
+        game.executeMove(Position.of(2, 0), Position.of(3, 0));
+        game.confirmTurn();
+        assertEquals(Move.parse("G6G5"), book.bestMove(game, 1));
+        game.executeMove(Position.of(6, 6), Position.of(5, 6));
+        game.confirmTurn();
+        assertEquals(Move.NONE, book.bestMove(game, 1));
+    }
+
+    @Test
+    @DisplayName("Test wins are credited to the player who won and bad records stop early")
+    public void testWinsAndRejectedRecords() throws IOException {
+        // Play random games until one ends in a win, then record it
+        Random random = new Random(4);
+        MoveBuffer buffer = new MoveBuffer();
+        GameManager game;
+        StringBuilder played;
+        do {
+            game = newGame();
+            played = new StringBuilder();
+            while (!game.isGameOver()) {
+                game.generateLegalMoves(game.getCurrentPlayerIndex(), buffer);
+                int move = buffer.get(random.nextInt(buffer.size()));
+                played.append(Move.toString(move)).append(' ');
+                game.executeMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move)));
+                game.confirmTurn();
+            }
+        } while (game.isDraw());
+        int winner = game.getWinner().getPlayerId();
+        writeRecord("won", newGame(), played.toString().trim().split(" "));
+        Files.write(dir.resolve("bad.record"), Arrays.asList("# Jungle Game Record", "1,P0,A2,A3,R,-", "2,P1,A2,A9,R,-"));
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(1);
+        builder.addDirectory(dir);
+        Path bookFile = dir.resolve("test.book");
+        builder.write(bookFile, 1);
+        assertEquals(2, builder.getGameCount());
+        assertEquals(1, builder.getRejectedGameCount());
+
+        OpeningBook book = OpeningBook.open(bookFile);
+        int total = 0;
+        int wins = 0;
+        for (OpeningBook.BookMove move : book.lookup(newGame())) {
+            total += move.getCount();
+            wins += move.getWins();
+        }
+        assertEquals(2, total);
+        assertEquals(winner == 0 ? 1 : 0, wins);
+    }
+
+    @Test
+    @DisplayName("Test engine plays the book move without searching")
+    public void testEngineUsesBook() throws IOException {
+        writeRecord("a", newGame(), "G2G3");
+        OpeningBookBuilder builder = new OpeningBookBuilder(4);
+        builder.addDirectory(dir);
+        Path bookFile = dir.resolve("test.book");
+        builder.write(bookFile, 1);
+
+        SearchEngine engine = new SearchEngine(new TranspositionTable(1, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED));
+        engine.setOpeningBook(OpeningBook.open(bookFile));
+        SearchResult result = engine.search(newGame(), SearchLimits.depth(6));
+        assertEquals(Move.parse("G2G3"), result.getBestMove());
+        assertEquals(0, result.getNodes());
+
+        GameManager outOfBook = newGame();
+        outOfBook.executeMove(Position.of(2, 0), Position.of(3, 0));
+        outOfBook.confirmTurn();
+        assertTrue(engine.search(outOfBook, SearchLimits.depth(2)).getNodes() > 0);
+    }
+
+    @Test
+    @DisplayName("Test opening a file that is not a book fails")
+    public void testRejectsBadFile() throws IOException {
+        Path file = dir.resolve("bad.book");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        assertThrows(IOException.class, () -> OpeningBook.open(file));
+    }
+}
@@ -0,0 +1,67 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.engine.Perft;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Perft counts from the starting position, checked against an independent walk over the rules
+ */
+public class PerftTest {
+
+    private GameManager gameManager;
+
+    @BeforeEach
+    public void setUp() {
+        gameManager = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+    }
+
+    @Test
+    @DisplayName("Test generator perft matches brute-force validation")
+    public void testPerftMatchesValidation() {
+        for (int depth = 1; depth <= 3; depth++) {
+            long generated = new Perft(gameManager, depth).count(depth);
+            long validated = new Perft(gameManager, depth).countByValidation(depth);
+            assertEquals(validated, generated, "Perft mismatch at depth " + depth);
+        }
+        assertEquals(Zobrist.compute(gameManager.getBoard(), 0), gameManager.getPositionHash(),
+                "Perft should leave the position unchanged");
+    }
+
+    @Test
+    @DisplayName("Test perft matches the known counts from the starting position")
+    public void testKnownCounts() {
+        long[] expected = {24, 576, 12478, 269944};
+        for (int depth = 1; depth <= expected.length; depth++) {
+            assertEquals(expected[depth - 1], new Perft(gameManager, depth).count(depth),
+                    "Perft mismatch at depth " + depth);
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel divide sums to the sequential count")
+    public void testParallelDivide() {
+        long sequential = new Perft(gameManager, 4).count(4);
+        Perft.DivideResult result = Perft.divide(gameManager, 4, 4);
+
+        assertEquals(sequential, result.getTotalNodes());
+        assertEquals(new Perft(gameManager, 1).count(1), result.getMoveCount(),
+                "Divide should list every root move");
+    }
+
+    @Test
+    @DisplayName("Test copies are independent of the original game")
+    public void testCopyIsIndependent() {
+        GameManager copy = gameManager.copy();
+        assertEquals(gameManager.getPositionHash(), copy.getPositionHash());
+
+        copy.executeMove(Position.of(2, 0), Position.of(3, 0));
+        assertNotNull(gameManager.getBoard().getPieceAt(Position.of(2, 0)));
+        assertEquals(Position.of(2, 0), gameManager.getBoard().getPieceAt(Position.of(2, 0)).getPosition());
+        assertNotSame(gameManager.getPlayer(0), copy.getPlayer(0));
+        assertEquals(8, copy.getPlayer(0).getPieces().size());
+    }
+}
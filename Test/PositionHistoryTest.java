@@ -0,0 +1,146 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.ui.UI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for repetition and no-capture draw detection
+ */
+public class PositionHistoryTest {
+
+    private GameManager newGame() {
+        return new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+    }
+
+    private void play(GameManager game, String... moves) {
+        for (String text : moves) {
+            int move = Move.parse(text);
+            game.executeMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move)));
+            game.confirmTurn();
+        }
+    }
+
+    @Test
+    @DisplayName("Test counts match a reference map through random pushes and pops")
+    public void testCountsMatchReference() {
+        PositionHistory history = new PositionHistory(0, 0);
+        history.reset(0L);
+        Map<Long, Integer> reference = new HashMap<>();
+        reference.put(0L, 1);
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(0L);
+        Random random = new Random(21);
+        for (int step = 0; step < 20000; step++) {
+            if (stack.size() > 1 && random.nextInt(5) < 2) {
+                long hash = stack.pop();
+                history.pop();
+                reference.merge(hash, -1, Integer::sum);
+            } else {
+                // Few distinct keys with clustered low bits, so probe runs collide and deletions shift
+                long hash = (long) random.nextInt(300) << 40 | random.nextInt(4);
+                stack.push(hash);
+                history.push(hash, false);
+                reference.merge(hash, 1, Integer::sum);
+            }
+            assertEquals((int) reference.get(stack.peek()), history.getRepetitions());
+            assertEquals(stack.size(), history.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test third repetition ends the game as a draw")
+    public void testThreefoldRepetition() {
+        GameManager game = newGame();
+        game.getPositionHistory().setLimits(3, 0);
+        play(game, "A2A3", "G6G5", "A3A2", "G5G6");
+        assertFalse(game.isGameOver());
+        assertEquals(2, game.getPositionHistory().getRepetitions());
+        play(game, "A2A3", "G6G5", "A3A2");
+        assertFalse(game.isGameOver());
+        play(game, "G5G6");
+        assertTrue(game.isGameOver());
+        assertTrue(game.isDraw());
+        assertNull(game.getWinner());
+    }
+
+    @Test
+    @DisplayName("Test moves without a capture end the game as a draw")
+    public void testNoCaptureLimit() {
+        GameManager game = newGame();
+        game.getPositionHistory().setLimits(0, 6);
+        play(game, "A2A3", "G6G5", "A3A4", "G5G4", "A4A5");
+        assertFalse(game.isGameOver());
+        assertEquals(5, game.getPositionHistory().getPliesSinceCapture());
+        play(game, "G4G3");
+        assertTrue(game.isDraw());
+    }
+
+    @Test
+    @DisplayName("Test make and unmake push and pop the history")
+    public void testMakeUnmake() {
+        GameManager game = newGame();
+        game.getPositionHistory().setLimits(2, 0);
+        int[] moves = {Move.parse("A2A3"), Move.parse("G6G5"), Move.parse("A3A2"), Move.parse("G5G6")};
+        int[] tokens = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            assertFalse(game.isGameOver());
+            tokens[i] = game.makeMove(moves[i]);
+        }
+        assertTrue(game.isDraw(), "Second occurrence is a draw with a limit of 2");
+        for (int i = moves.length - 1; i >= 0; i--) {
+            game.unmakeMove(moves[i], tokens[i]);
+        }
+        assertFalse(game.isGameOver());
+        assertEquals(1, game.getPositionHistory().size());
+        assertEquals(1, game.getPositionHistory().getRepetitions());
+    }
+
+    @Test
+    @DisplayName("Test make and unmake on a drawn position leave the history alone")
+    public void testMakeUnmakeAfterDraw() {
+        GameManager game = newGame();
+        game.getPositionHistory().setLimits(2, 0);
+        play(game, "A2A3", "G6G5", "A3A2", "G5G6");
+        assertTrue(game.isDraw());
+        int size = game.getPositionHistory().size();
+        int repetitions = game.getPositionHistory().getRepetitions();
+
+        int move = Move.parse("A2A3");
+        int token = game.makeMove(move);
+        game.unmakeMove(move, token);
+
+        assertTrue(game.isDraw());
+        assertEquals(size, game.getPositionHistory().size());
+        assertEquals(repetitions, game.getPositionHistory().getRepetitions());
+    }
+
+    @Test
+    @DisplayName("Test copies keep the draw limits and positions of the original")
+    public void testCopyKeepsLimits() {
+        GameManager game = newGame();
+        game.getPositionHistory().setLimits(2, 7);
+        play(game, "A2A3", "G6G5");
+
+        GameManager copy = game.copy();
+        assertEquals(2, copy.getPositionHistory().getRepetitionLimit());
+        assertEquals(7, copy.getPositionHistory().getNoCaptureLimit());
+        assertEquals(3, copy.getPositionHistory().size());
+        play(copy, "A3A2", "G5G6");
+        assertTrue(copy.isDraw(), "Copy should use the original's repetition limit");
+        assertFalse(game.isGameOver(), "Playing on the copy leaves the original alone");
+    }
+
+    @Test
+    @DisplayName("Test game over screen handles a draw")
+    public void testDisplayDraw() {
+        assertDoesNotThrow(() -> new UI().displayWinner(null));
+    }
+}
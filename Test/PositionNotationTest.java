@@ -0,0 +1,79 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the one-line position notation
+ */
+public class PositionNotationTest {
+
+    private static GameManager parse(String notation) {
+        return GameManager.fromNotation(notation, new Player("Alice", 0), new Player("Bob", 1));
+    }
+
+    @Test
+    @DisplayName("Test start notation matches the standard opening setup")
+    public void testStartPosition() {
+        GameManager opening = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        assertEquals(PositionNotation.START, PositionNotation.toNotation(opening));
+
+        GameManager parsed = parse(PositionNotation.START);
+        assertEquals(opening.getPositionHash(), parsed.getPositionHash());
+        assertEquals(8, parsed.getPlayer(0).getPieceCount());
+        assertEquals(8, parsed.getPlayer(1).getPieceCount());
+        assertEquals(1, parsed.getPositionHistory().size());
+    }
+
+    @Test
+    @DisplayName("Test notation round trips positions from random games")
+    public void testRandomRoundTrip() {
+        Random random = new Random(25);
+        MoveBuffer moves = new MoveBuffer();
+        for (int game = 0; game < 20; game++) {
+            GameManager position = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            for (int ply = 0; ply < 60 && !position.isGameOver(); ply++) {
+                moves.clear();
+                if (position.generateLegalMoves(position.getCurrentPlayerIndex(), moves) == 0) {
+                    break;
+                }
+                position.makeMove(moves.get(random.nextInt(moves.size())));
+
+                String notation = PositionNotation.toNotation(position);
+                GameManager parsed = parse(notation);
+                assertEquals(notation, PositionNotation.toNotation(parsed));
+                assertEquals(position.getPositionHash(), parsed.getPositionHash(), notation);
+                assertEquals(position.getPlayer(0).getLiveCount(), parsed.getPlayer(0).getLiveCount());
+                assertEquals(position.getPlayer(1).getLiveCount(), parsed.getPlayer(1).getLiveCount());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sparse positions and side to move are read")
+    public void testSparsePosition() {
+        GameManager game = parse("7/7/7/7/7/7/7/3r3/L6 1");
+
+        assertEquals(1, game.getCurrentPlayerIndex());
+        Piece rat = game.getBoard().getPieceAt(Position.of(1, 3));
+        assertEquals(Piece.RAT, rat.getTypeIndex());
+        assertEquals(1, rat.getOwner().getPlayerId());
+        assertEquals(Piece.LION, game.getBoard().getPieceAt(Position.of(0, 0)).getTypeIndex());
+        assertEquals(2, Long.bitCount(game.getBoard().getOccupancy()));
+    }
+
+    @Test
+    @DisplayName("Test malformed notation is rejected")
+    public void testMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/7/7"));
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/7/7 2"));
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/7 0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/7/7/7 0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/6/8 0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/7/L7 0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("7/7/7/7/7/7/7/7/x6 0"));
+    }
+}
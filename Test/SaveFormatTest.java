@@ -0,0 +1,120 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.controller.BinarySaveFormat;
+import Java.COMP3211_JungleGame.controller.FileManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary save format and loading of the older text saves
+ */
+public class SaveFormatTest {
+
+    private static final String TEXT_SAVE = String.join("\n",
+            "CURRENT_PLAYER:1",
+            "PLAYER0:T1",
+            "PLAYER1:T2",
+            "BOARD_START",
+            "P0L,--,--,--,--,--,P0T",
+            "--,P0D,--,--,--,P0C,--",
+            "P0R,--,P0P,--,P0W,--,P0E",
+            "--,--,--,--,--,--,--",
+            "--,--,--,--,--,--,--",
+            "--,--,--,--,--,--,--",
+            "P1E,--,P1W,--,P1P,--,P1R",
+            "--,P1C,--,--,--,P1D,--",
+            "P1T,--,--,--,--,--,P1L",
+            "BOARD_END",
+            "MOVE_COUNT:0",
+            "");
+
+    private static void assertSamePosition(GameManager expected, GameManager actual) {
+        for (int square = 0; square < 63; square++) {
+            Piece want = expected.getBoard().getPieceAt(square);
+            Piece got = actual.getBoard().getPieceAt(square);
+            if (want == null) {
+                assertNull(got, "Square " + square + " should be empty");
+            } else {
+                assertNotNull(got, "Square " + square + " should be occupied");
+                assertEquals(want.getTypeIndex(), got.getTypeIndex());
+                assertEquals(want.getOwner().getPlayerId(), got.getOwner().getPlayerId());
+            }
+        }
+        assertEquals(expected.getCurrentPlayerIndex(), actual.getCurrentPlayerIndex());
+        assertEquals(expected.getPositionHash(), actual.getPositionHash());
+    }
+
+    @Test
+    @DisplayName("Test binary round trip keeps pieces, side to move and names")
+    public void testBinaryRoundTrip() throws IOException {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        game.executeMove(Position.of(2, 0), Position.of(3, 0));
+        game.confirmTurn();
+
+        ByteBuffer data = BinarySaveFormat.encode(game);
+        assertTrue(BinarySaveFormat.isBinary(data));
+        assertEquals(4 + 1 + 1 + (2 + 5) + (2 + 3) + 8 + 16 + 4, data.remaining(),
+                "Header, names, occupancy, one byte per piece and the checksum");
+        GameManager loaded = BinarySaveFormat.decode(data);
+
+        assertSamePosition(game, loaded);
+        assertEquals("Alice", loaded.getPlayer(0).getName());
+        assertEquals("Bob", loaded.getPlayer(1).getName());
+        assertEquals(8, loaded.getPlayer(0).getPieceCount());
+        assertEquals(8, loaded.getPlayer(1).getPieceCount());
+        assertFalse(data.hasRemaining(), "Decoding should consume the whole buffer");
+    }
+
+    @Test
+    @DisplayName("Test corrupt and truncated binary saves are rejected")
+    public void testCorruptData() {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        ByteBuffer data = BinarySaveFormat.encode(game);
+
+        ByteBuffer flipped = ByteBuffer.allocate(data.remaining()).put(data.duplicate());
+        flipped.put(20, (byte) (flipped.get(20) ^ 1));
+        flipped.flip();
+        assertThrows(IOException.class, () -> BinarySaveFormat.decode(flipped));
+
+        ByteBuffer truncated = data.duplicate();
+        truncated.limit(truncated.limit() - 5);
+        assertThrows(IOException.class, () -> BinarySaveFormat.decode(truncated));
+
+        ByteBuffer text = ByteBuffer.wrap(TEXT_SAVE.getBytes(StandardCharsets.UTF_8));
+        assertFalse(BinarySaveFormat.isBinary(text));
+    }
+
+    @Test
+    @DisplayName("Test file manager writes binary and still reads text saves")
+    public void testFileAutoDetection() throws IOException {
+        FileManager fileManager = new FileManager();
+        Path binaryFile = Files.createTempFile("jungle", ".jungle");
+        Path textFile = Files.createTempFile("jungle", ".jungle");
+        try {
+            GameManager game = new GameManager(new Player("T1", 0), new Player("T2", 1));
+            game.executeMove(Position.of(2, 6), Position.of(3, 6));
+            game.confirmTurn();
+            fileManager.saveGame(binaryFile, game);
+            assertTrue(BinarySaveFormat.isBinary(ByteBuffer.wrap(Files.readAllBytes(binaryFile))));
+            assertSamePosition(game, fileManager.loadGame(binaryFile));
+
+            Files.write(textFile, TEXT_SAVE.getBytes(StandardCharsets.UTF_8));
+            GameManager fromText = fileManager.loadGame(textFile);
+            GameManager opening = new GameManager(new Player("T1", 0), new Player("T2", 1));
+            opening.setCurrentPlayerIndex(1);
+            assertSamePosition(opening, fromText);
+            assertEquals(8, fromText.getPlayer(0).getPieceCount(), "Text load should not duplicate pieces");
+            assertEquals(1, fromText.getPositionHistory().size());
+        } finally {
+            Files.deleteIfExists(binaryFile);
+            Files.deleteIfExists(textFile);
+        }
+    }
+}
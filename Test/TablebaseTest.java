@@ -0,0 +1,196 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.engine.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for retrograde tablebase generation and probing
+ */
+public class TablebaseTest {
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+    private static final int ORACLE_DEPTH = 5;
+
+    private Tablebases tablebases;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tablebases = new Tablebases();
+        new TablebaseGenerator(tablebases, null, 2).generate(MaterialSignature.parse("RE-L"));
+    }
+
+    /**
+     * Random placement of the given pieces, each written as symbol + owner (e.g. "R0").
+     * Lions and Tigers may be placed in water, where a river jump can leave them.
+     */
+    private GameManager randomGame(Random random, String... pieces) {
+        GameManager game = GameManager.empty(new Player("Alice", 0), new Player("Bob", 1));
+        Board board = game.getBoard();
+        for (String spec : pieces) {
+            int square;
+            do {
+                square = random.nextInt(63);
+            } while (board.getPieceAt(square) != null || board.isDen(square, 0) || board.isDen(square, 1)
+                    || ("RLT".indexOf(spec.charAt(0)) < 0 && board.isWater(square)));
+            game.placePiece(spec.charAt(1) - '0', PieceFactory.typeOf(spec.charAt(0)), square);
+        }
+        game.setCurrentPlayerIndex(random.nextInt(2));
+        game.resetPositionHistory();
+        return game;
+    }
+
+    /**
+     * Depth-limited exact solver: win/loss distance in plies if proven within depth, 0 for
+     * no legal moves, UNKNOWN otherwise.
+     */
+    private int solve(GameManager game, int depth) {
+        MoveBuffer moves = new MoveBuffer();
+        if (game.generateLegalMoves(game.getCurrentPlayerIndex(), moves) == 0) {
+            return 0;
+        }
+        if (depth == 0) {
+            return UNKNOWN;
+        }
+        int bestWin = Integer.MAX_VALUE;
+        boolean allLost = true;
+        int longestLoss = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int token = game.makeMove(move);
+            int child = game.isGameOver() ? -0 : solve(game, depth - 1);
+            boolean immediate = game.isGameOver();
+            game.unmakeMove(move, token);
+            if (immediate) {
+                return 1;
+            }
+            if (child != UNKNOWN && child < 0) {
+                bestWin = Math.min(bestWin, -child + 1);
+            } else if (child != UNKNOWN && child > 0) {
+                longestLoss = Math.max(longestLoss, child + 1);
+            } else {
+                allLost = false;
+            }
+        }
+        if (bestWin != Integer.MAX_VALUE) {
+            return bestWin;
+        }
+        return allLost ? -longestLoss : UNKNOWN;
+    }
+
+    @Test
+    @DisplayName("Test signature parsing, canonical form and index round trip")
+    public void testSignature() {
+        MaterialSignature signature = MaterialSignature.parse("er-l");
+        assertEquals("RE-L", signature.toString());
+        assertTrue(signature.isCanonical());
+        assertEquals("L-RE", signature.flipped().toString());
+        assertFalse(signature.flipped().isCanonical());
+        assertEquals(signature, signature.flipped().canonical());
+        assertEquals(36L * 63 * 63 * 2, signature.getPositionCount());
+
+        assertThrows(IllegalArgumentException.class, () -> MaterialSignature.parse("RR-L"));
+        assertThrows(IllegalArgumentException.class, () -> MaterialSignature.parse("RE"));
+        assertThrows(IllegalArgumentException.class, () -> MaterialSignature.parse("RX-L"));
+    }
+
+    @Test
+    @DisplayName("Test tablebase values match a brute-force solver on short distances")
+    public void testAgainstBruteForce() {
+        Random random = new Random(3);
+        String[][] materials = {{"R0", "E0", "L1"}, {"L0", "R1", "E1"}, {"E0", "L1"}, {"R0", "L1"}};
+        int checked = 0;
+        for (int trial = 0; trial < 400; trial++) {
+            GameManager game = randomGame(random, materials[trial % materials.length]);
+            int value = tablebases.probe(game);
+            assertNotEquals(Tablebase.UNKNOWN, value);
+            int expected = solve(game, ORACLE_DEPTH);
+            if (expected == UNKNOWN) {
+                assertTrue(value == 0 || Math.abs(value) > ORACLE_DEPTH,
+                        "Tablebase claims " + value + " but no result within " + ORACLE_DEPTH + " plies");
+            } else {
+                assertEquals(expected, value, "Trial " + trial);
+                checked += expected != 0 ? 1 : 0;
+            }
+        }
+        assertTrue(checked > 20, "Too few decided positions sampled: " + checked);
+    }
+
+    @Test
+    @DisplayName("Test mirrored positions have the same value")
+    public void testMirrorSymmetry() {
+        Random random = new Random(8);
+        for (int trial = 0; trial < 200; trial++) {
+            GameManager game = randomGame(random, "R0", "E0", "L1");
+            GameManager mirrored = GameManager.empty(new Player("Alice", 0), new Player("Bob", 1));
+            Board board = game.getBoard();
+            for (int square = 0; square < 63; square++) {
+                Piece piece = board.getPieceAt(square);
+                if (piece != null) {
+                    int mirror = square - square % 7 + 6 - square % 7;
+                    mirrored.placePiece(piece.getOwner().getPlayerId(), piece.getTypeIndex(), mirror);
+                }
+            }
+            mirrored.setCurrentPlayerIndex(game.getCurrentPlayerIndex());
+            assertEquals(tablebases.probe(game), tablebases.probe(mirrored));
+        }
+    }
+
+    @Test
+    @DisplayName("Test tables written to disk probe the same through memory mapping")
+    public void testFileRoundTrip() throws IOException {
+        Path dir = Files.createTempDirectory("jungle-tb");
+        try {
+            new TablebaseGenerator(new Tablebases(), dir, 1).generate(MaterialSignature.parse("RE-L"));
+            Tablebases mapped = Tablebases.open(dir);
+            assertEquals(3, mapped.size());
+            assertEquals(3, mapped.getMaxPieces());
+
+            Random random = new Random(12);
+            for (int trial = 0; trial < 2000; trial++) {
+                GameManager game = randomGame(random, trial % 2 == 0 ? new String[]{"R0", "E0", "L1"}
+                        : new String[]{"L0", "E1"});
+                assertEquals(tablebases.probe(game), mapped.probe(game));
+            }
+            GameManager tooMany = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+            assertEquals(Tablebase.UNKNOWN, mapped.probe(tooMany));
+        } finally {
+            File[] files = dir.toFile().listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            dir.toFile().delete();
+        }
+    }
+
+    @Test
+    @DisplayName("Test engine with tablebases plays a winning endgame move that keeps the win")
+    public void testEngineUsesTablebases() {
+        Random random = new Random(21);
+        GameManager game;
+        int value;
+        do {
+            game = randomGame(random, "R0", "E0", "L1");
+            value = tablebases.probe(game);
+        } while (value < 9);
+
+        SearchEngine engine = new SearchEngine(new TranspositionTable(1, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED));
+        engine.setTablebases(tablebases);
+        SearchResult result = engine.search(game, SearchLimits.depth(2));
+
+        assertTrue(result.isWinScore());
+        GameManager after = game.copy();
+        after.makeMove(result.getBestMove());
+        assertEquals(-(value - 1), tablebases.probe(after), "Best move should keep the shortest win");
+    }
+}
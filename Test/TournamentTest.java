@@ -0,0 +1,89 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.controller.FileManager;
+import Java.COMP3211_JungleGame.engine.EngineSpec;
+import Java.COMP3211_JungleGame.engine.Tournament;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the headless tournament runner and engine specs
+ */
+public class TournamentTest {
+
+    @Test
+    @DisplayName("Test tournament totals add up and every game is recorded")
+    public void testTournamentWritesRecords() throws IOException {
+        File dir = Files.createTempDirectory("jungle-tournament").toFile();
+        try {
+            Tournament tournament = new Tournament(EngineSpec.parse("ab:depth=1"), EngineSpec.parse("random"), 2);
+            Tournament.Result result = tournament.run(6, 2, 120, 5, dir);
+
+            assertEquals(6, result.getGames());
+            assertEquals(6, result.getWins() + result.getDraws() + result.getLosses());
+            assertTrue(result.getAverageLength() > 0 && result.getAverageLength() <= 120);
+            assertTrue(result.getGamesPerSecond() > 0);
+
+            File[] records = dir.listFiles((d, name) -> name.endsWith(".record"));
+            assertNotNull(records);
+            assertEquals(6, records.length);
+            List<String> lines = Files.readAllLines(new File(dir, "game-00001.record").toPath());
+            assertEquals("# Jungle Game Record", lines.get(0));
+            assertTrue(lines.get(2).matches("1,P0,[A-G][0-8],[A-G][0-8],[RCDWPTLE],[RCDWPTLE-]"));
+        } finally {
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            dir.delete();
+        }
+    }
+
+    @Test
+    @DisplayName("Test single-threaded tournament with a fixed seed is repeatable")
+    public void testSeededTournamentIsRepeatable() {
+        Tournament tournament = new Tournament(EngineSpec.parse("random"), EngineSpec.parse("random"), 1);
+        Tournament.Result first = tournament.run(4, 0, 80, 42, null);
+        Tournament.Result second = tournament.run(4, 0, 80, 42, null);
+
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getDraws(), second.getDraws());
+        assertEquals(first.getAverageLength(), second.getAverageLength(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test engine spec parsing accepts known forms and rejects bad ones")
+    public void testEngineSpecParsing() {
+        assertEquals("ab:depth=3,tt=1", EngineSpec.parse("ab:depth=3,tt=1").toString());
+        EngineSpec.parse("mcts:playouts=50");
+        EngineSpec.parse("random");
+
+        assertThrows(IllegalArgumentException.class, () -> EngineSpec.parse("minimax"));
+        assertThrows(IllegalArgumentException.class, () -> EngineSpec.parse("ab:width=3"));
+        assertThrows(IllegalArgumentException.class, () -> EngineSpec.parse("ab:depth=deep"));
+        assertThrows(IllegalArgumentException.class, () -> EngineSpec.parse("random:depth=1"));
+    }
+
+    @Test
+    @DisplayName("Test record writer produces the saveRecord format")
+    public void testWriteRecordMatchesSaveRecord() throws IOException {
+        GameManager game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        game.executeMove(Position.of(2, 0), Position.of(3, 0));
+        game.confirmTurn();
+
+        StringWriter out = new StringWriter();
+        new FileManager().writeRecord(out, game.getGameRecord());
+        String[] lines = out.toString().split("\\R");
+        assertEquals(3, lines.length);
+        assertEquals("1,P0,A2,A3,R,-", lines[2]);
+    }
+}
@@ -0,0 +1,103 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.engine.TranspositionTable;
+import Java.COMP3211_JungleGame.engine.TranspositionTable.ReplacementPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the lock-free transposition table
+ */
+public class TranspositionTableTest {
+
+    @Test
+    @DisplayName("Test stored entries read back with all fields")
+    public void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.DEPTH_PREFERRED);
+        long hash = 0x123456789ABCDEFL;
+        table.store(hash, 1234, -517, 9, TranspositionTable.BOUND_LOWER);
+
+        long data = table.probe(hash);
+        assertNotEquals(0L, data, "Stored entry should be found");
+        assertEquals(1234, TranspositionTable.moveOf(data));
+        assertEquals(-517, TranspositionTable.scoreOf(data));
+        assertEquals(9, TranspositionTable.depthOf(data));
+        assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.boundOf(data));
+
+        assertEquals(0L, table.probe(hash ^ (1L << 40)), "Different hash in the same slot should miss");
+        assertEquals(0.5, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test table size is a power of two within the memory budget")
+    public void testSizing() {
+        TranspositionTable table = new TranspositionTable(3, ReplacementPolicy.ALWAYS_REPLACE);
+        assertEquals(1L << 17, table.getEntryCount(), "3 MB should round down to 2 MB of entries");
+        assertTrue(table.getSizeBytes() <= 3L * 1024 * 1024);
+        assertThrows(IllegalArgumentException.class,
+                () -> new TranspositionTable(0, ReplacementPolicy.ALWAYS_REPLACE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TranspositionTable(TranspositionTable.MAX_MEGABYTES + 1, ReplacementPolicy.ALWAYS_REPLACE));
+    }
+
+    @Test
+    @DisplayName("Test depth-preferred keeps deeper entries until the next search")
+    public void testDepthPreferredPolicy() {
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.DEPTH_PREFERRED);
+        long slotStride = table.getEntryCount();
+        long deep = 42;
+        long shallow = 42 + slotStride;
+
+        table.store(deep, 1, 10, 8, TranspositionTable.BOUND_EXACT);
+        table.store(shallow, 2, 20, 3, TranspositionTable.BOUND_EXACT);
+        assertNotEquals(0L, table.probe(deep), "Deeper entry should survive");
+        assertEquals(0L, table.probe(shallow));
+
+        table.newSearch();
+        table.store(shallow, 2, 20, 3, TranspositionTable.BOUND_EXACT);
+        assertNotEquals(0L, table.probe(shallow), "Entries from an old search should be replaced");
+    }
+
+    @Test
+    @DisplayName("Test always-replace overwrites regardless of depth")
+    public void testAlwaysReplacePolicy() {
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.ALWAYS_REPLACE);
+        long slotStride = table.getEntryCount();
+        table.store(7, 1, 10, 8, TranspositionTable.BOUND_EXACT);
+        table.store(7 + slotStride, 2, 20, 1, TranspositionTable.BOUND_UPPER);
+        assertEquals(0L, table.probe(7));
+        assertEquals(2, TranspositionTable.moveOf(table.probe(7 + slotStride)));
+    }
+
+    @Test
+    @DisplayName("Test concurrent writers never produce mismatched entries")
+    public void testConcurrentAccess() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.ALWAYS_REPLACE);
+        AtomicInteger corrupt = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long seed = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    long hash = random.nextLong(1 << 16) * 0x9E3779B97F4A7C15L;
+                    int expectedMove = (int) (hash >>> 48);
+                    table.store(hash, expectedMove, 0, 1, TranspositionTable.BOUND_EXACT);
+                    long data = table.probe(hash);
+                    if (data != 0 && TranspositionTable.moveOf(data) != expectedMove) {
+                        corrupt.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, corrupt.get(), "Verified entries should always belong to the probed hash");
+        assertTrue(table.getFillRate() > 0.0);
+    }
+}
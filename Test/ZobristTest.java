@@ -0,0 +1,98 @@
+package Java.COMP3211_JungleGame.Test;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.components.Animals.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the incrementally maintained position hash
+ */
+public class ZobristTest {
+
+    private GameManager gameManager;
+
+    @BeforeEach
+    public void setUp() {
+        gameManager = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+    }
+
+    private void assertHashConsistent() {
+        assertEquals(Zobrist.compute(gameManager.getBoard(), gameManager.getCurrentPlayerIndex()),
+                gameManager.getPositionHash(), "Incremental hash should match a full recomputation");
+    }
+
+    @Test
+    @DisplayName("Test hash follows moves, turn changes and undo")
+    public void testHashFollowsMovesAndUndo() {
+        assertHashConsistent();
+        long start = gameManager.getPositionHash();
+
+        gameManager.executeMove(Position.of(2, 0), Position.of(3, 0));
+        assertHashConsistent();
+        assertNotEquals(start, gameManager.getPositionHash());
+
+        gameManager.undoMove();
+        assertEquals(start, gameManager.getPositionHash(), "Undo should restore the hash");
+
+        gameManager.executeMove(Position.of(2, 0), Position.of(3, 0));
+        long beforeConfirm = gameManager.getPositionHash();
+        gameManager.confirmTurn();
+        assertEquals(beforeConfirm ^ Zobrist.sideKey(), gameManager.getPositionHash(),
+                "Switching sides should toggle the side key");
+        assertHashConsistent();
+    }
+
+    @Test
+    @DisplayName("Test transposed move orders reach the same hash")
+    public void testTranspositionsShareHash() {
+        GameManager other = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+
+        playTurn(gameManager, 2, 0, 3, 0);
+        playTurn(gameManager, 6, 6, 5, 6);
+        playTurn(gameManager, 1, 1, 1, 2);
+
+        playTurn(other, 1, 1, 1, 2);
+        playTurn(other, 6, 6, 5, 6);
+        playTurn(other, 2, 0, 3, 0);
+
+        assertEquals(gameManager.getPositionHash(), other.getPositionHash());
+    }
+
+    @Test
+    @DisplayName("Test captures and rebuilt boards keep the hash consistent")
+    public void testCaptureAndRebuild() {
+        Board board = gameManager.getBoard();
+        Player player0 = gameManager.getPlayer(0);
+        Player player1 = gameManager.getPlayer(1);
+        for (int square = 0; square < 63; square++) {
+            Piece piece = board.getPieceAt(square);
+            if (piece != null) {
+                board.removePieceAt(square);
+                piece.getOwner().removePiece(piece);
+            }
+        }
+        assertEquals(0L, board.getHash(), "Empty board should hash to zero");
+
+        Piece dog = new Dog(player0, Position.of(3, 3));
+        Piece cat = new Cat(player1, Position.of(4, 3));
+        board.setPieceAt(Position.of(3, 3), dog);
+        board.setPieceAt(Position.of(4, 3), cat);
+        player0.addPiece(dog);
+        player1.addPiece(cat);
+        gameManager.setCurrentPlayerIndex(0);
+        assertHashConsistent();
+
+        gameManager.executeMove(Position.of(3, 3), Position.of(4, 3));
+        assertHashConsistent();
+        gameManager.undoMove();
+        assertHashConsistent();
+    }
+
+    private void playTurn(GameManager game, int fromRow, int fromCol, int toRow, int toCol) {
+        game.executeMove(Position.of(fromRow, fromCol), Position.of(toRow, toCol));
+        game.confirmTurn();
+    }
+}
@@ -0,0 +1,38 @@
+package Java.COMP3211_JungleGame.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks and writes the results as JSON, so runs from different
+ * releases can be compared.
+ *
+ * From the project root, with the JMH jars (jmh-core, jmh-generator-annprocess,
+ * jopt-simple, commons-math3) on JMH_CP:
+ *
+ *   javac -cp "$JMH_CP" -d out/benchmarks $(find . -name "*.java" -not -path "./Test/*")
+ *   java -cp "out/benchmarks:$JMH_CP" Java.COMP3211_JungleGame.benchmark.BenchmarkRunner [regex] [result.json]
+ *
+ * The regex selects benchmarks (default: all in this package) and the result file
+ * defaults to benchmark-results.json.
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_INCLUDE = "Java\\.COMP3211_JungleGame\\.benchmark\\..*";
+    private static final String DEFAULT_RESULT_FILE = "benchmark-results.json";
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+        String resultFile = args.length > 1 ? args[1] : DEFAULT_RESULT_FILE;
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + resultFile);
+    }
+}
@@ -0,0 +1,74 @@
+package Java.COMP3211_JungleGame.benchmark;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.controller.FileManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Save and load paths of FileManager. Files are written under the normal resources
+ * directories with a benchmark-only name and removed afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenceBenchmark {
+    private static final String FILE_NAME = "jmh-benchmark";
+    private static final int RECORDED_MOVES = 60;
+
+    private FileManager fileManager;
+    private GameManager game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fileManager = new FileManager();
+        game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+
+        Random random = new Random(3211);
+        MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < RECORDED_MOVES && !game.isGameOver(); i++) {
+            if (game.generateLegalMoves(game.getCurrentPlayerIndex(), moves) == 0) {
+                break;
+            }
+            int move = moves.get(random.nextInt(moves.size()));
+            game.executeMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move)));
+            game.confirmTurn();
+        }
+
+        fileManager.saveGame(FILE_NAME, game);
+        fileManager.saveRecord(FILE_NAME, game.getGameRecord());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new File("resources/saves/" + FILE_NAME + ".jungle").delete();
+        new File("resources/records/" + FILE_NAME + ".record").delete();
+    }
+
+    @Benchmark
+    public boolean saveGame() {
+        return fileManager.saveGame(FILE_NAME, game);
+    }
+
+    @Benchmark
+    public GameManager loadGame() {
+        return fileManager.loadGame(FILE_NAME);
+    }
+
+    @Benchmark
+    public boolean saveRecord() {
+        return fileManager.saveRecord(FILE_NAME, game.getGameRecord());
+    }
+
+    @Benchmark
+    public List<String> loadRecord() {
+        return fileManager.loadRecord(FILE_NAME);
+    }
+}
@@ -0,0 +1,43 @@
+package Java.COMP3211_JungleGame.benchmark;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.ui.UI;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Console board rendering with System.out redirected to a null stream, so only the
+ * cost of building and printing the board is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+    private UI ui;
+    private GameManager game;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ui = new UI();
+        game = new GameManager(new Player("Alice", 0), new Player("Bob", 1));
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void displayBoard() {
+        ui.displayBoard(game.getBoard(), game.getPlayer(0), game.getPlayer(1));
+    }
+}
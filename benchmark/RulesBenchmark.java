@@ -0,0 +1,106 @@
+package Java.COMP3211_JungleGame.benchmark;
+
+import Java.COMP3211_JungleGame.components.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule hot paths: terrain lookups, move execution with undo, and rejected moves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesBenchmark {
+    private static final Position WATER = Position.of(4, 1);
+    private static final Position LAND = Position.of(4, 3);
+    private static final Position TRAP = Position.of(1, 3);
+    private static final Position JUMP_FROM = Position.of(3, 0);
+    private static final Position JUMP_TO = Position.of(3, 3);
+    private static final Position RAT_FROM = Position.of(2, 0);
+    private static final Position RAT_TO = Position.of(3, 0);
+    private static final Position CAT_SQUARE = Position.of(3, 3);
+    private static final Position DOG_SQUARE = Position.of(4, 3);
+    // The opening position with player 1's Rat swum to (3,1), between the jump squares
+    private static final String RAT_IN_WATER = "t5l/1c3d1/e1w1p2/7/7/1r5/R1P1W1E/1D3C1/L5T 0";
+    // The opening position with player 0's Cat on CAT_SQUARE facing player 1's Dog on DOG_SQUARE
+    private static final String CAT_FACES_DOG = "t5l/1c5/e1w1p1r/7/3d3/3C3/R1P1W1E/1D5/L5T 0";
+
+    private GameManager game;
+    private Board board;
+    private GameManager rankGame;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = newGame(RAT_IN_WATER);
+        board = game.getBoard();
+        rankGame = newGame(CAT_FACES_DOG);
+    }
+
+    private static GameManager newGame(String notation) {
+        return GameManager.fromNotation(notation, new Player("Alice", 0), new Player("Bob", 1));
+    }
+
+    @Benchmark
+    public boolean isWater() {
+        return board.isWater(WATER) ^ board.isWater(LAND);
+    }
+
+    @Benchmark
+    public boolean isTrap() {
+        return board.isTrap(TRAP, 0) ^ board.isTrap(LAND, 1);
+    }
+
+    @Benchmark
+    public boolean hasRatInWaterBetween() {
+        return board.hasRatInWaterBetween(JUMP_FROM, JUMP_TO);
+    }
+
+    /**
+     * Each player only has three undos, so the game is replaced when they run out;
+     * that setup cost is amortised over every third call.
+     */
+    @Benchmark
+    public GameManager executeMoveAndUndo() {
+        if (game.getGameRecord().getRemainingUndos(0) == 0) {
+            game = newGame(RAT_IN_WATER);
+            board = game.getBoard();
+        }
+        game.executeMove(RAT_FROM, RAT_TO);
+        game.undoMove();
+        return game;
+    }
+
+    @Benchmark
+    public String rejectNotAdjacentByException() {
+        try {
+            game.executeMove(Position.of(1, 1), Position.of(3, 1));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String rejectRankTooLowByException() {
+        try {
+            rankGame.executeMove(CAT_SQUARE, DOG_SQUARE);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public MoveResult rejectNotAdjacentByResult() {
+        return game.checkMove(Position.of(1, 1), Position.of(3, 1));
+    }
+
+    @Benchmark
+    public MoveResult rejectRankTooLowByResult() {
+        return rankGame.checkMove(CAT_SQUARE, DOG_SQUARE);
+    }
+}
@@ -0,0 +1,202 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * Per-square attacker counts for both players, kept up to date by the Board as pieces are
+ * placed and removed.
+ *
+ * Each (player, square) entry is a long of 4-bit counters, one per attacker class: how many
+ * of the player's pieces of that class could move onto the square next turn. A class is
+ * the piece type for moves from an ordinary land square (including Lion/Tiger jumps), plus
+ * one class for a Rat moving out of the water and one for any piece stepping off one of the
+ * opponent's traps, since the capture rules only depend on those facts about the attacker.
+ * Counts ignore whatever stands on the target square, so asking whether a given defender
+ * can be captured there is one mask test against a precomputed table.
+ *
+ * A piece's reach depends only on its square, except for jumps, which Rats in the river
+ * block. When a Rat enters or leaves the water the Board calls {@link #removeJumpers} and
+ * {@link #addJumpers} around the change so jump counts stay in step.
+ */
+public final class AttackMap {
+    private static final int ROWS = 9;
+    private static final int COLS = 7;
+    private static final int SQUARES = ROWS * COLS;
+    private static final int RAT_IN_WATER = 8;
+    private static final int ON_TRAP = 9;
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};
+    private static final int[] COL_STEPS = {0, 0, -1, 1};
+
+    // Packed (target square | counter shift << 8) for the single steps of each (player, type, square)
+    private static final int[][] STEPS = new int[2 * Piece.TYPE_COUNT * SQUARES][];
+    // Counter bits of the attacker classes able to capture a defender, by type and terrain
+    private static final long[] CAPTURE_MASKS = new long[Piece.TYPE_COUNT * 2];
+
+    static {
+        long water = Board.getWaterMask();
+        int[] targets = new int[4];
+        for (int player = 0; player < 2; player++) {
+            long ownDen = Board.getDenMask(player);
+            long opponentTraps = Board.getTrapMask(1 - player);
+            for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+                for (int from = 0; from < SQUARES; from++) {
+                    int attackerClass = (opponentTraps & (1L << from)) != 0 ? ON_TRAP
+                            : type == Piece.RAT && (water & (1L << from)) != 0 ? RAT_IN_WATER : type;
+                    int count = 0;
+                    for (int dir = 0; dir < 4; dir++) {
+                        int row = from / COLS + ROW_STEPS[dir];
+                        int col = from % COLS + COL_STEPS[dir];
+                        if (row < 0 || row >= ROWS || col < 0 || col >= COLS) {
+                            continue;
+                        }
+                        int to = row * COLS + col;
+                        long bit = 1L << to;
+                        if ((ownDen & bit) != 0 || ((water & bit) != 0 && type != Piece.RAT)) {
+                            continue;
+                        }
+                        targets[count++] = to | (attackerClass * 4) << 8;
+                    }
+                    STEPS[index(player, type, from)] = java.util.Arrays.copyOf(targets, count);
+                }
+            }
+        }
+
+        for (int defenderType = 0; defenderType < Piece.TYPE_COUNT; defenderType++) {
+            for (int inWater = 0; inWater < 2; inWater++) {
+                boolean defenderInWater = inWater == 1;
+                long mask = 0L;
+                for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+                    // Jumps and steps from land share a class; landing in water is only possible by jump
+                    boolean capture = defenderInWater && type != Piece.RAT
+                            ? CaptureRules.canJumpCapture(type, defenderType)
+                            : CaptureRules.stepCapture(type, defenderType, false, defenderInWater, false).isLegal();
+                    if (capture) {
+                        mask |= 0xFL << (type * 4);
+                    }
+                }
+                if (CaptureRules.stepCapture(Piece.RAT, defenderType, true, defenderInWater, false).isLegal()) {
+                    mask |= 0xFL << (RAT_IN_WATER * 4);
+                }
+                // Traps are all on land, away from the river
+                if (!defenderInWater) {
+                    mask |= 0xFL << (ON_TRAP * 4);
+                }
+                CAPTURE_MASKS[defenderType * 2 + inWater] = mask;
+            }
+        }
+    }
+
+    private final Board board;
+    private final long[][] counters = new long[2][SQUARES];
+
+    AttackMap(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * True when the player has a piece that could move onto the square next turn, were
+     * the square free.
+     */
+    public boolean canReach(int playerId, int square) {
+        return counters[playerId][square] != 0;
+    }
+
+    /**
+     * True when the player could capture a piece of the given type standing on the square.
+     */
+    public boolean canCapture(int playerId, int square, int defenderType) {
+        int inWater = (Board.getWaterMask() & (1L << square)) != 0 ? 1 : 0;
+        return (counters[playerId][square] & CAPTURE_MASKS[defenderType * 2 + inWater]) != 0;
+    }
+
+    /**
+     * True when the piece on the square can be captured by its opponent next turn;
+     * false for an empty square.
+     */
+    public boolean isAttacked(int square) {
+        Piece piece = board.getPieceAt(square);
+        return piece != null && canCapture(1 - piece.getOwner().getPlayerId(), square, piece.getTypeIndex());
+    }
+
+    /**
+     * True when the player has a piece one legal move from the opponent's den.
+     */
+    public boolean canReachDen(int playerId) {
+        return counters[playerId][board.getDenPosition(1 - playerId).getIndex()] != 0;
+    }
+
+    /**
+     * Number of the player's pieces that could move onto the square next turn.
+     */
+    public int attackerCount(int playerId, int square) {
+        long counts = counters[playerId][square];
+        int total = 0;
+        while (counts != 0) {
+            total += (int) (counts & 0xF);
+            counts >>>= 4;
+        }
+        return total;
+    }
+
+    void add(int playerId, int type, int square) {
+        update(playerId, type, square, 1);
+    }
+
+    void remove(int playerId, int type, int square) {
+        update(playerId, type, square, -1);
+    }
+
+    /**
+     * Takes every Lion and Tiger jump out of the counts; called before the set of Rats in
+     * the river changes.
+     */
+    void removeJumpers() {
+        updateJumpers(-1);
+    }
+
+    /**
+     * Puts every Lion and Tiger jump back, blocked by the Rats now in the river.
+     */
+    void addJumpers() {
+        updateJumpers(1);
+    }
+
+    private void update(int playerId, int type, int square, long delta) {
+        long[] playerCounters = counters[playerId];
+        for (int step : STEPS[index(playerId, type, square)]) {
+            playerCounters[step & 0xFF] += delta << (step >>> 8);
+        }
+        if (type == Piece.TIGER || type == Piece.LION) {
+            updateJumps(playerId, type, square, delta);
+        }
+    }
+
+    private void updateJumpers(long delta) {
+        for (int playerId = 0; playerId < 2; playerId++) {
+            for (int type = Piece.TIGER; type <= Piece.LION; type++) {
+                long mask = board.getPieceMask(playerId, type);
+                while (mask != 0) {
+                    int square = Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    updateJumps(playerId, type, square, delta);
+                }
+            }
+        }
+    }
+
+    private void updateJumps(int playerId, int type, int from, long delta) {
+        long[] playerCounters = counters[playerId];
+        long ownDen = Board.getDenMask(playerId);
+        long rats = board.getRatMask();
+        long step = delta << (type * 4);
+        int count = RiverJumps.landingCount(from);
+        for (int i = 0; i < count; i++) {
+            int to = RiverJumps.landingSquare(from, i);
+            if ((RiverJumps.landingWater(from, i) & rats) == 0 && (ownDen & (1L << to)) == 0) {
+                playerCounters[to] += step;
+            }
+        }
+    }
+
+    private static int index(int playerId, int type, int square) {
+        return (playerId * Piece.TYPE_COUNT + type) * SQUARES + square;
+    }
+}
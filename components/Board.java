@@ -1,51 +1,104 @@
 package Java.COMP3211_JungleGame.components;
-import Java.COMP3211_JungleGame.components.Animals.Rat;
 
+/**
+ * The 9x7 jungle board.
+ *
+ * Pieces are kept in a flat square array alongside one 64-bit mask per player and piece
+ * type, so terrain and occupancy questions are answered with a single bit test.
+ * Squares are numbered row * 7 + column, giving indices 0 to 62.
+ */
 public class Board {
     private static final int ROWS = 9;
     private static final int COLS = 7;
-    private final Piece[][] grid;
+    private static final int SQUARES = ROWS * COLS;
+    private final Piece[] squares;
+    private final long[][] pieceMasks;
+    private final long[] occupancy;
+    private final AttackMap attacks;
+    private long hash;
+    private int[] scoreTable;
+    private int score;
 
     private static final Position[] WATER_SQUARES = {
-            new Position(3, 1), new Position(3, 2),
-            new Position(4, 1), new Position(4, 2),
-            new Position(5, 1), new Position(5, 2),
-            new Position(3, 4), new Position(3, 5),
-            new Position(4, 4), new Position(4, 5),
-            new Position(5, 4), new Position(5, 5)
+            Position.of(3, 1), Position.of(3, 2),
+            Position.of(4, 1), Position.of(4, 2),
+            Position.of(5, 1), Position.of(5, 2),
+            Position.of(3, 4), Position.of(3, 5),
+            Position.of(4, 4), Position.of(4, 5),
+            Position.of(5, 4), Position.of(5, 5)
     };
 
     private static final Position[] PLAYER0_TRAPS = {
-            new Position(0, 2), new Position(1, 3), new Position(0, 4)
+            Position.of(0, 2), Position.of(1, 3), Position.of(0, 4)
     };
 
     private static final Position[] PLAYER1_TRAPS = {
-            new Position(8, 4), new Position(7, 3), new Position(8, 2)
+            Position.of(8, 4), Position.of(7, 3), Position.of(8, 2)
     };
 
-    private static final Position PLAYER0_DEN = new Position(0, 3);
-    private static final Position PLAYER1_DEN = new Position(8, 3);
+    private static final Position PLAYER0_DEN = Position.of(0, 3);
+    private static final Position PLAYER1_DEN = Position.of(8, 3);
+
+    private static final long WATER_MASK = maskOf(WATER_SQUARES);
+    private static final long[] TRAP_MASKS = {maskOf(PLAYER0_TRAPS), maskOf(PLAYER1_TRAPS)};
+    private static final long[] DEN_MASKS = {maskOf(PLAYER0_DEN), maskOf(PLAYER1_DEN)};
 
     public Board() {
-        grid = new Piece[ROWS][COLS];
+        squares = new Piece[SQUARES];
+        pieceMasks = new long[2][Piece.TYPE_COUNT];
+        occupancy = new long[2];
+        attacks = new AttackMap(this);
     }
 
     public void setPieceAt(Position position, Piece piece) {
         validatePosition(position);
-        grid[position.getRow()][position.getColumn()] = piece;
+        setPieceAt(position.getIndex(), piece);
+    }
+
+    /**
+     * Square-index form of setPieceAt for hot paths; the piece's position is set to the
+     * shared Position instance for the square.
+     */
+    public void setPieceAt(int square, Piece piece) {
+        clearSquare(square);
         if (piece != null) {
-            piece.setPosition(position);
+            squares[square] = piece;
+            long bit = 1L << square;
+            int playerId = piece.getOwner().getPlayerId();
+            boolean riverRat = piece.getTypeIndex() == Piece.RAT && (WATER_MASK & bit) != 0;
+            if (riverRat) {
+                attacks.removeJumpers();
+            }
+            pieceMasks[playerId][piece.getTypeIndex()] |= bit;
+            occupancy[playerId] |= bit;
+            if (riverRat) {
+                attacks.addJumpers();
+            }
+            attacks.add(playerId, piece.getTypeIndex(), square);
+            hash ^= Zobrist.pieceKey(playerId, piece.getTypeIndex(), square);
+            if (scoreTable != null) {
+                score += scoreTable[scoreIndex(playerId, piece.getTypeIndex(), square)];
+            }
+            piece.setPosition(Position.ofIndex(square));
         }
     }
 
     public Piece getPieceAt(Position position) {
         validatePosition(position);
-        return grid[position.getRow()][position.getColumn()];
+        return squares[position.getIndex()];
+    }
+
+    public Piece getPieceAt(int square) {
+        return squares[square];
+    }
+
+    public void removePieceAt(int square) {
+        clearSquare(square);
     }
 
     public void removePieceAt(Position position) {
         validatePosition(position);
-        grid[position.getRow()][position.getColumn()] = null;
+        clearSquare(position.getIndex());
     }
 
     public boolean isEmpty(Position position) {
@@ -53,27 +106,27 @@ public class Board {
     }
 
     public boolean isWater(Position position) {
-        for (Position water : WATER_SQUARES) {
-            if (water.equals(position)) {
-                return true;
-            }
-        }
-        return false;
+        return isWater(position.getIndex());
+    }
+
+    public boolean isWater(int square) {
+        return (WATER_MASK & (1L << square)) != 0;
     }
 
     public boolean isTrap(Position position, int playerId) {
-        Position[] traps = (playerId == 0) ? PLAYER0_TRAPS : PLAYER1_TRAPS;
-        for (Position trap : traps) {
-            if (trap.equals(position)) {
-                return true;
-            }
-        }
-        return false;
+        return isTrap(position.getIndex(), playerId);
+    }
+
+    public boolean isTrap(int square, int playerId) {
+        return (TRAP_MASKS[playerId == 0 ? 0 : 1] & (1L << square)) != 0;
     }
 
     public boolean isDen(Position position, int playerId) {
-        Position den = (playerId == 0) ? PLAYER0_DEN : PLAYER1_DEN;
-        return den.equals(position);
+        return isDen(position.getIndex(), playerId);
+    }
+
+    public boolean isDen(int square, int playerId) {
+        return (DEN_MASKS[playerId == 0 ? 0 : 1] & (1L << square)) != 0;
     }
 
     public Position getDenPosition(int playerId) {
@@ -81,47 +134,150 @@ public class Board {
     }
 
     public boolean hasRatInWaterBetween(Position from, Position to) {
-        if (from.getRow() == to.getRow()) {
-            int minCol = Math.min(from.getColumn(), to.getColumn());
-            int maxCol = Math.max(from.getColumn(), to.getColumn());
-            for (int col = minCol + 1; col < maxCol; col++) {
-                Position pos = new Position(from.getRow(), col);
-                if (isWater(pos)) {
-                    Piece piece = getPieceAt(pos);
-                    if (piece instanceof Rat) {
-                        return true;
-                    }
-                }
-            }
-        }
+        return (RiverJumps.waterBetween(from.getIndex(), to.getIndex()) & getRatMask()) != 0;
+    }
+
+    /**
+     * Returns the squares occupied by the given player's pieces of one type.
+     * Types are numbered by rank, from Rat (0) to Elephant (7).
+     */
+    public long getPieceMask(int playerId, int type) {
+        return pieceMasks[playerId][type];
+    }
+
+    public long getOccupancy(int playerId) {
+        return occupancy[playerId];
+    }
+
+    public long getOccupancy() {
+        return occupancy[0] | occupancy[1];
+    }
+
+    public long getRatMask() {
+        return pieceMasks[0][Piece.RAT] | pieceMasks[1][Piece.RAT];
+    }
+
+    /**
+     * Attacker counts per square, updated on every placement and removal.
+     */
+    public AttackMap getAttackMap() {
+        return attacks;
+    }
+
+    /**
+     * Zobrist hash of the piece placement, updated on every placement and removal.
+     */
+    public long getHash() {
+        return hash;
+    }
 
-        if (from.getColumn() == to.getColumn()) {
-            int minRow = Math.min(from.getRow(), to.getRow());
-            int maxRow = Math.max(from.getRow(), to.getRow());
-            for (int row = minRow + 1; row < maxRow; row++) {
-                Position pos = new Position(row, from.getColumn());
-                if (isWater(pos)) {
-                    Piece piece = getPieceAt(pos);
-                    if (piece instanceof Rat) {
-                        return true;
-                    }
+    /**
+     * Installs a piece-square score table, indexed by {@link #scoreIndex}, and sums it over
+     * the pieces on the board once. From then on every placement and removal adjusts the
+     * score, so reading it never walks the board. Passing null turns the score off.
+     */
+    public void setScoreTable(int[] table) {
+        if (table != null && table.length != 2 * Piece.TYPE_COUNT * SQUARES) {
+            throw new IllegalArgumentException("Score table must have " + 2 * Piece.TYPE_COUNT * SQUARES
+                    + " entries, got: " + table.length);
+        }
+        scoreTable = table;
+        score = 0;
+        if (table != null) {
+            for (int square = 0; square < SQUARES; square++) {
+                Piece piece = squares[square];
+                if (piece != null) {
+                    score += table[scoreIndex(piece.getOwner().getPlayerId(), piece.getTypeIndex(), square)];
                 }
             }
         }
+    }
+
+    public int[] getScoreTable() {
+        return scoreTable;
+    }
+
+    /**
+     * Sum of the installed score table over all pieces, or 0 when no table is installed.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    public static int scoreIndex(int playerId, int type, int square) {
+        return (playerId * Piece.TYPE_COUNT + type) * SQUARES + square;
+    }
+
+    public static int getSquareCount() {
+        return SQUARES;
+    }
 
-        return false;
+    public static long getWaterMask() {
+        return WATER_MASK;
     }
 
+    public static long getTrapMask(int playerId) {
+        return TRAP_MASKS[playerId == 0 ? 0 : 1];
+    }
+
+    public static long getDenMask(int playerId) {
+        return DEN_MASKS[playerId == 0 ? 0 : 1];
+    }
+
+    /**
+     * Copies the board and every piece on it. The copied pieces keep their owners but are
+     * not added to the owners' piece lists, so moving them leaves this board's pieces alone.
+     */
     public Board copy() {
+        return copy(null, null);
+    }
+
+    /**
+     * Copies the board with fresh pieces owned by the given players, adding each piece to
+     * its new owner. Passing null players keeps the original owners without touching their
+     * piece lists. The copy shares the installed score table.
+     */
+    public Board copy(Player player0, Player player1) {
         Board newBoard = new Board();
-        for (int row = 0; row < ROWS; row++) {
-            for (int col = 0; col < COLS; col++) {
-                newBoard.grid[row][col] = this.grid[row][col];
+        newBoard.scoreTable = scoreTable;
+        for (int square = 0; square < SQUARES; square++) {
+            Piece piece = squares[square];
+            if (piece != null) {
+                int playerId = piece.getOwner().getPlayerId();
+                Player owner = player0 == null ? piece.getOwner() : playerId == 0 ? player0 : player1;
+                Piece pieceCopy = PieceFactory.create(piece.getTypeIndex(), owner, Position.ofIndex(square));
+                newBoard.setPieceAt(square, pieceCopy);
+                if (player0 != null) {
+                    owner.addPiece(pieceCopy);
+                }
             }
         }
         return newBoard;
     }
 
+    private void clearSquare(int square) {
+        Piece existing = squares[square];
+        if (existing != null) {
+            long bit = 1L << square;
+            int playerId = existing.getOwner().getPlayerId();
+            attacks.remove(playerId, existing.getTypeIndex(), square);
+            boolean riverRat = existing.getTypeIndex() == Piece.RAT && (WATER_MASK & bit) != 0;
+            if (riverRat) {
+                attacks.removeJumpers();
+            }
+            pieceMasks[playerId][existing.getTypeIndex()] &= ~bit;
+            occupancy[playerId] &= ~bit;
+            if (riverRat) {
+                attacks.addJumpers();
+            }
+            hash ^= Zobrist.pieceKey(playerId, existing.getTypeIndex(), square);
+            if (scoreTable != null) {
+                score -= scoreTable[scoreIndex(playerId, existing.getTypeIndex(), square)];
+            }
+            squares[square] = null;
+        }
+    }
+
     private void validatePosition(Position position) {
         if (position.getRow() < 0 || position.getRow() >= ROWS ||
                 position.getColumn() < 0 || position.getColumn() >= COLS) {
@@ -129,6 +285,14 @@ public class Board {
         }
     }
 
+    private static long maskOf(Position... positions) {
+        long mask = 0L;
+        for (Position position : positions) {
+            mask |= 1L << position.getIndex();
+        }
+        return mask;
+    }
+
     public int getRows() {
         return ROWS;
     }
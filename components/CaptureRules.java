@@ -0,0 +1,79 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * Precomputed capture verdicts, so the move checks look up one array entry instead of
+ * calling Piece.canCapture and testing piece classes.
+ *
+ * A step capture is indexed by attacker type, defender type, whether each piece is in
+ * the water, and whether the attacker moves off one of the opponent's traps, which lifts
+ * the rank rule (see GameManager.checkMove). Jump captures only follow the rank rule.
+ * The tables are built once from Piece.canCapture and the Rat water rules.
+ */
+public final class CaptureRules {
+    private static final MoveResult[] STEP_CAPTURES = new MoveResult[Piece.TYPE_COUNT * Piece.TYPE_COUNT * 8];
+    private static final boolean[] JUMP_CAPTURES = new boolean[Piece.TYPE_COUNT * Piece.TYPE_COUNT];
+
+    static {
+        Player attackerOwner = new Player("attacker", 0);
+        Player defenderOwner = new Player("defender", 1);
+        for (int attackerType = 0; attackerType < Piece.TYPE_COUNT; attackerType++) {
+            Piece attacker = PieceFactory.create(attackerType, attackerOwner, null);
+            for (int defenderType = 0; defenderType < Piece.TYPE_COUNT; defenderType++) {
+                Piece defender = PieceFactory.create(defenderType, defenderOwner, null);
+                JUMP_CAPTURES[attackerType * Piece.TYPE_COUNT + defenderType] = attacker.canCapture(defender);
+                for (int flags = 0; flags < 8; flags++) {
+                    boolean attackerInWater = (flags & 4) != 0;
+                    boolean defenderInWater = (flags & 2) != 0;
+                    boolean onOpponentTrap = (flags & 1) != 0;
+                    STEP_CAPTURES[stepIndex(attackerType, defenderType, attackerInWater, defenderInWater, onOpponentTrap)] =
+                            stepVerdict(attacker, defender, attackerInWater, defenderInWater, onOpponentTrap);
+                }
+            }
+        }
+    }
+
+    private CaptureRules() {
+    }
+
+    /**
+     * Verdict for a piece stepping onto an enemy piece: LEGAL or the rule that forbids it.
+     * Whether the attacker may enter the target square at all is checked separately.
+     */
+    public static MoveResult stepCapture(int attackerType, int defenderType, boolean attackerInWater,
+                                         boolean defenderInWater, boolean onOpponentTrap) {
+        return STEP_CAPTURES[stepIndex(attackerType, defenderType, attackerInWater, defenderInWater, onOpponentTrap)];
+    }
+
+    /**
+     * Whether a Lion or Tiger may capture the piece it lands on after a jump.
+     */
+    public static boolean canJumpCapture(int attackerType, int defenderType) {
+        return JUMP_CAPTURES[attackerType * Piece.TYPE_COUNT + defenderType];
+    }
+
+    private static int stepIndex(int attackerType, int defenderType, boolean attackerInWater,
+                                 boolean defenderInWater, boolean onOpponentTrap) {
+        return (attackerType * Piece.TYPE_COUNT + defenderType) << 3
+                | (attackerInWater ? 4 : 0) | (defenderInWater ? 2 : 0) | (onOpponentTrap ? 1 : 0);
+    }
+
+    private static MoveResult stepVerdict(Piece attacker, Piece defender, boolean attackerInWater,
+                                          boolean defenderInWater, boolean onOpponentTrap) {
+        if (attacker.getTypeIndex() == Piece.RAT) {
+            if (attackerInWater) {
+                if (defender.getTypeIndex() == Piece.RAT && !defenderInWater) {
+                    return MoveResult.RAT_IN_WATER_VS_RAT_ON_LAND;
+                }
+                if (defender.getTypeIndex() == Piece.ELEPHANT) {
+                    return MoveResult.RAT_IN_WATER_VS_ELEPHANT;
+                }
+            } else if (defender.getTypeIndex() == Piece.RAT && defenderInWater) {
+                return MoveResult.RAT_ON_LAND_VS_RAT_IN_WATER;
+            }
+        }
+        if (onOpponentTrap || attacker.canCapture(defender)) {
+            return MoveResult.LEGAL;
+        }
+        return MoveResult.RANK_TOO_LOW;
+    }
+}
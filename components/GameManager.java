@@ -2,55 +2,149 @@ package Java.COMP3211_JungleGame.components;
 
 import Java.COMP3211_JungleGame.components.Animals.*;
 
+import java.util.Arrays;
+
 public class GameManager {
+    private static final int ROWS = 9;
+    private static final int COLS = 7;
+    private static final int[] ROW_STEPS = {1, -1, 0, 0};
+    private static final int[] COL_STEPS = {0, 0, 1, -1};
+    private static final int UNDO_PLAYER_BIT = 1;
+    private static final int UNDO_GAME_OVER_BIT = 2;
+    private static final int UNDO_HISTORY_BIT = 4;
+    private static final int UNDO_WINNER_SHIFT = 3;
+
     private final Board board;
     private final Player[] players;
     private final GameRecorder gameRecord;
+    private PositionHistory history;
     private int currentPlayerIndex;
     private boolean gameOver;
     private Player winner;
+    private Piece[] searchCaptures = new Piece[64];
+    private int searchPly;
 
     public GameManager(Player player0, Player player1) {
-        this.board = new Board();
+        this(player0, player1, null, null);
+    }
+
+    /**
+     * Builds a game on an existing board, or on the standard opening setup when board is null.
+     * A null history starts a new one with the configured draw limits at this position.
+     */
+    private GameManager(Player player0, Player player1, Board board, PositionHistory history) {
+        this.board = board == null ? new Board() : board;
         this.players = new Player[]{player0, player1};
         this.gameRecord = new GameRecorder();
         this.currentPlayerIndex = 0;
         this.gameOver = false;
         this.winner = null;
-        initializeBoard();
+        if (board == null) {
+            initializeBoard();
+        }
+        if (history == null) {
+            history = PositionHistory.fromConfig();
+            history.reset(getPositionHash());
+        }
+        this.history = history;
+    }
+
+    /**
+     * Creates a game with an empty board, for loaders that place the pieces themselves
+     * with {@link #placePiece}. Call {@link #resetPositionHistory()} once the position is set up.
+     */
+    public static GameManager empty(Player player0, Player player1) {
+        return new GameManager(player0, player1, new Board(), null);
+    }
+
+    /**
+     * Creates a game on the position written in {@link PositionNotation}.
+     */
+    public static GameManager fromNotation(String notation, Player player0, Player player1) {
+        return PositionNotation.parse(notation, player0, player1);
+    }
+
+    /**
+     * Puts a new piece of the given type (see {@link Piece#getTypeIndex()}) for the given
+     * player on an empty square, adding it to the player's pieces.
+     */
+    public Piece placePiece(int playerIndex, int type, int square) {
+        if (board.getPieceAt(square) != null) {
+            throw new IllegalArgumentException("Square " + Position.ofIndex(square) + " is already occupied");
+        }
+        Piece piece = PieceFactory.create(type, players[playerIndex], Position.ofIndex(square));
+        board.setPieceAt(square, piece);
+        players[playerIndex].addPiece(piece);
+        return piece;
+    }
+
+    /**
+     * Returns an independent copy of the current position with new Player and Piece objects,
+     * so it can be searched on another thread. Move history and undo counts are not copied;
+     * the position history is, so searches see repetitions.
+     */
+    public GameManager copy() {
+        Player player0 = new Player(players[0].getName(), 0);
+        Player player1 = new Player(players[1].getName(), 1);
+        GameManager copy = new GameManager(player0, player1, board.copy(player0, player1), history.copy());
+        copy.currentPlayerIndex = currentPlayerIndex;
+        copy.gameOver = gameOver;
+        copy.winner = winner == null ? null : copy.players[winner.getPlayerId()];
+        return copy;
     }
 
     private void initializeBoard() {
-        board.setPieceAt(new Position(0, 0), new Lion(players[0], new Position(0, 0)));
-        board.setPieceAt(new Position(0, 6), new Tiger(players[0], new Position(0, 6)));
-        board.setPieceAt(new Position(1, 1), new Dog(players[0], new Position(1, 1)));
-        board.setPieceAt(new Position(1, 5), new Cat(players[0], new Position(1, 5)));
-        board.setPieceAt(new Position(2, 0), new Rat(players[0], new Position(2, 0)));
-        board.setPieceAt(new Position(2, 2), new Leopard(players[0], new Position(2, 2)));
-        board.setPieceAt(new Position(2, 4), new Wolf(players[0], new Position(2, 4)));
-        board.setPieceAt(new Position(2, 6), new Elephant(players[0], new Position(2, 6)));
-
-        board.setPieceAt(new Position(8, 6), new Lion(players[1], new Position(8, 6)));
-        board.setPieceAt(new Position(8, 0), new Tiger(players[1], new Position(8, 0)));
-        board.setPieceAt(new Position(7, 5), new Dog(players[1], new Position(7, 5)));
-        board.setPieceAt(new Position(7, 1), new Cat(players[1], new Position(7, 1)));
-        board.setPieceAt(new Position(6, 6), new Rat(players[1], new Position(6, 6)));
-        board.setPieceAt(new Position(6, 4), new Leopard(players[1], new Position(6, 4)));
-        board.setPieceAt(new Position(6, 2), new Wolf(players[1], new Position(6, 2)));
-        board.setPieceAt(new Position(6, 0), new Elephant(players[1], new Position(6, 0)));
-
-        for (int row = 0; row < board.getRows(); row++) {
-            for (int col = 0; col < board.getCols(); col++) {
-                Piece piece = board.getPieceAt(new Position(row, col));
-                if (piece != null) {
-                    piece.getOwner().addPiece(piece);
-                }
+        board.setPieceAt(Position.of(0, 0), new Lion(players[0], Position.of(0, 0)));
+        board.setPieceAt(Position.of(0, 6), new Tiger(players[0], Position.of(0, 6)));
+        board.setPieceAt(Position.of(1, 1), new Dog(players[0], Position.of(1, 1)));
+        board.setPieceAt(Position.of(1, 5), new Cat(players[0], Position.of(1, 5)));
+        board.setPieceAt(Position.of(2, 0), new Rat(players[0], Position.of(2, 0)));
+        board.setPieceAt(Position.of(2, 2), new Leopard(players[0], Position.of(2, 2)));
+        board.setPieceAt(Position.of(2, 4), new Wolf(players[0], Position.of(2, 4)));
+        board.setPieceAt(Position.of(2, 6), new Elephant(players[0], Position.of(2, 6)));
+
+        board.setPieceAt(Position.of(8, 6), new Lion(players[1], Position.of(8, 6)));
+        board.setPieceAt(Position.of(8, 0), new Tiger(players[1], Position.of(8, 0)));
+        board.setPieceAt(Position.of(7, 5), new Dog(players[1], Position.of(7, 5)));
+        board.setPieceAt(Position.of(7, 1), new Cat(players[1], Position.of(7, 1)));
+        board.setPieceAt(Position.of(6, 6), new Rat(players[1], Position.of(6, 6)));
+        board.setPieceAt(Position.of(6, 4), new Leopard(players[1], Position.of(6, 4)));
+        board.setPieceAt(Position.of(6, 2), new Wolf(players[1], Position.of(6, 2)));
+        board.setPieceAt(Position.of(6, 0), new Elephant(players[1], Position.of(6, 0)));
+
+        for (int square = 0; square < ROWS * COLS; square++) {
+            Piece piece = board.getPieceAt(square);
+            if (piece != null) {
+                piece.getOwner().addPiece(piece);
             }
         }
     }
 
+    /**
+     * Executes the move, throwing IllegalArgumentException with the reason when it is
+     * illegal. A thin wrapper over checkMove, so it applies exactly the same rules.
+     */
     public void executeMove(Position from, Position to) {
-        validateMove(from, to);
+        MoveResult result = checkMove(from, to);
+        if (result != MoveResult.LEGAL) {
+            throw new IllegalArgumentException(describeMoveResult(result, from, to));
+        }
+        applyMove(from, to);
+    }
+
+    /**
+     * Executes the move if it is legal and reports the outcome instead of throwing.
+     * Nothing changes when the result is not LEGAL.
+     */
+    public MoveResult tryExecuteMove(Position from, Position to) {
+        MoveResult result = checkMove(from, to);
+        if (result == MoveResult.LEGAL) {
+            applyMove(from, to);
+        }
+        return result;
+    }
+
+    private void applyMove(Position from, Position to) {
         Piece piece = board.getPieceAt(from);
         Piece capturedPiece = board.getPieceAt(to);
 
@@ -63,137 +157,264 @@ public class GameManager {
         board.setPieceAt(to, piece);
         piece.setPosition(to);
 
-        Motions move = new Motions(from, to, piece, capturedPiece, currentPlayerIndex);
-        gameRecord.recordMove(move);
+        gameRecord.recordMove(from.getIndex(), to.getIndex(), piece, capturedPiece, currentPlayerIndex);
 
         checkWinCondition();
         // NOTE: Turn switching is now deferred to confirmTurn()
     }
 
+    /**
+     * Ends the turn: passes the move to the other player and records the new position,
+     * ending the game as a draw when the draw rules say so.
+     */
     public void confirmTurn() {
         if (!gameOver) {
             switchTurn();
+            int lastMove = gameRecord.peekLastEntry();
+            history.push(getPositionHash(), lastMove != -1 && MoveJournal.isCapture(lastMove));
+            if (history.isDraw()) {
+                gameOver = true;
+                winner = null;
+            }
         }
     }
 
-    private void validateMove(Position from, Position to) {
+    /**
+     * Checks a move for the current player without throwing or building messages.
+     */
+    public MoveResult checkMove(Position from, Position to) {
         if (from == null || to == null) {
-            throw new IllegalArgumentException("Position cannot be null");
+            return MoveResult.NULL_POSITION;
         }
+        return checkMove(currentPlayerIndex, from.getIndex(), to.getIndex());
+    }
 
+    private MoveResult checkMove(int playerIndex, int from, int to) {
         Piece piece = board.getPieceAt(from);
         if (piece == null) {
-            throw new IllegalArgumentException("No piece at position " + positionToString(from));
+            return MoveResult.NO_PIECE;
         }
-
-        if (piece.getOwner().getPlayerId() != currentPlayerIndex) {
-            throw new IllegalArgumentException("That piece belongs to " +
-                    piece.getOwner().getName() + ", not the current player");
+        if (piece.getOwner().getPlayerId() != playerIndex) {
+            return MoveResult.NOT_YOUR_PIECE;
         }
-
-        if (from.equals(to)) {
-            throw new IllegalArgumentException("Cannot move to the same position");
+        if (from == to) {
+            return MoveResult.SAME_SQUARE;
         }
+        return checkDestination(playerIndex, piece, from, to);
+    }
 
+    private MoveResult checkDestination(int playerIndex, Piece piece, int from, int to) {
         Piece targetPiece = board.getPieceAt(to);
-        if (targetPiece != null && targetPiece.getOwner().equals(piece.getOwner())) {
-            throw new IllegalArgumentException("Cannot capture your own piece at " + positionToString(to));
+        if (targetPiece != null && targetPiece.getOwner().getPlayerId() == playerIndex) {
+            return MoveResult.OWN_PIECE_AT_TARGET;
+        }
+        if (board.isDen(to, playerIndex)) {
+            return MoveResult.OWN_DEN;
         }
 
-        if (board.isDen(to, currentPlayerIndex)) {
-            throw new IllegalArgumentException("Cannot enter your own den");
+        if (piece.canJumpWater()) {
+            MoveResult jump = checkJump(piece, from, to, targetPiece);
+            if (jump != null) {
+                return jump;
+            }
         }
 
-        if (piece.canJumpWater() && canJumpToPosition(piece, from, to)) {
-            return;
+        if (!isAdjacent(from, to)) {
+            return MoveResult.NOT_ADJACENT;
         }
+        return checkStep(playerIndex, piece, from, to, targetPiece);
+    }
 
-        if (!from.isAdjacentTo(to)) {
-            throw new IllegalArgumentException("Can only move to adjacent squares (or jump water for Lion/Tiger)");
+    private MoveResult checkStep(int playerIndex, Piece piece, int from, int to, Piece targetPiece) {
+        boolean toWater = board.isWater(to);
+        if (toWater && !piece.canEnterWater()) {
+            return MoveResult.WATER_FORBIDDEN;
         }
+        if (targetPiece == null) {
+            return MoveResult.LEGAL;
+        }
+        return CaptureRules.stepCapture(piece.getTypeIndex(), targetPiece.getTypeIndex(),
+                board.isWater(from), toWater, board.isTrap(from, 1 - playerIndex));
+    }
 
-        if (board.isWater(to) && !piece.canEnterWater()) {
-            throw new IllegalArgumentException(piece.getName() + " cannot enter water (only Rat can)");
+    /**
+     * Returns null when the move does not pass over water, so the normal step rules apply.
+     */
+    private MoveResult checkJump(Piece piece, int from, int to, Piece targetPiece) {
+        long water = RiverJumps.waterBetween(from, to);
+        if (water == 0) {
+            return null;
+        }
+        if ((water & board.getRatMask()) != 0) {
+            return MoveResult.RAT_BLOCKS_JUMP;
         }
+        if (targetPiece != null && !CaptureRules.canJumpCapture(piece.getTypeIndex(), targetPiece.getTypeIndex())) {
+            return MoveResult.JUMP_CAPTURE_FORBIDDEN;
+        }
+        return MoveResult.LEGAL;
+    }
 
-        if (piece instanceof Rat && board.isWater(from)) {
-            if (targetPiece instanceof Rat && !board.isWater(to)) {
-                throw new IllegalArgumentException("Rat in water cannot capture Rat on land");
-            }
-            if (targetPiece instanceof Elephant) {
-                throw new IllegalArgumentException("Rat in water cannot capture Elephant");
+    private static boolean isAdjacent(int from, int to) {
+        int rowDiff = Math.abs(from / COLS - to / COLS);
+        int colDiff = Math.abs(from % COLS - to % COLS);
+        return rowDiff + colDiff == 1;
+    }
+
+    /**
+     * Builds the player-facing explanation for a failed move check. Only called when a
+     * message is actually shown, so the rule checks themselves never build strings.
+     */
+    public String describeMoveResult(MoveResult result, Position from, Position to) {
+        Piece piece = from == null ? null : board.getPieceAt(from);
+        Piece targetPiece = to == null ? null : board.getPieceAt(to);
+        return switch (result) {
+            case LEGAL -> "Move is legal";
+            case NULL_POSITION -> "Position cannot be null";
+            case NO_PIECE -> "No piece at position " + positionToString(from);
+            case NOT_YOUR_PIECE -> "That piece belongs to " +
+                    piece.getOwner().getName() + ", not the current player";
+            case SAME_SQUARE -> "Cannot move to the same position";
+            case OWN_PIECE_AT_TARGET -> "Cannot capture your own piece at " + positionToString(to);
+            case OWN_DEN -> "Cannot enter your own den";
+            case RAT_BLOCKS_JUMP -> piece.getName() + " cannot jump - Rat blocking the water";
+            case JUMP_CAPTURE_FORBIDDEN -> piece.getName() + " cannot capture " +
+                    targetPiece.getName() + " after jumping";
+            case NOT_ADJACENT -> "Can only move to adjacent squares (or jump water for Lion/Tiger)";
+            case WATER_FORBIDDEN -> piece.getName() + " cannot enter water (only Rat can)";
+            case RAT_IN_WATER_VS_RAT_ON_LAND -> "Rat in water cannot capture Rat on land";
+            case RAT_IN_WATER_VS_ELEPHANT -> "Rat in water cannot capture Elephant";
+            case RAT_ON_LAND_VS_RAT_IN_WATER -> "Rat on land cannot capture Rat in water";
+            case RANK_TOO_LOW -> piece.getName() + " (rank " + piece.getRank() +
+                    ") cannot capture " + targetPiece.getName() + " (rank " + targetPiece.getRank() + ")";
+        };
+    }
+
+    /**
+     * Writes every legal move for the given player into {@code out} as packed ints (see {@link Move}).
+     * Applies the same rules as executeMove, but without throwing or allocating per move.
+     * Returns the number of moves generated.
+     */
+    public int generateLegalMoves(int playerIndex, MoveBuffer out) {
+        out.clear();
+        long pieces = board.getOccupancy(playerIndex);
+        while (pieces != 0) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            Piece piece = board.getPieceAt(from);
+            int row = from / COLS;
+            int col = from % COLS;
+
+            for (int dir = 0; dir < 4; dir++) {
+                int toRow = row + ROW_STEPS[dir];
+                int toCol = col + COL_STEPS[dir];
+                if (toRow < 0 || toRow >= ROWS || toCol < 0 || toCol >= COLS) {
+                    continue;
+                }
+                int to = toRow * COLS + toCol;
+                if (checkDestination(playerIndex, piece, from, to) == MoveResult.LEGAL) {
+                    out.add(Move.encode(from, to));
+                }
             }
-        }
 
-        if (piece instanceof Rat && !board.isWater(from)) {
-            if (targetPiece instanceof Rat && board.isWater(to)) {
-                throw new IllegalArgumentException("Rat on land cannot capture Rat in water");
+            if (piece.canJumpWater()) {
+                generateJumps(playerIndex, piece, from, out);
             }
         }
+        return out.size();
+    }
 
-        if (targetPiece != null) {
-            if (board.isTrap(from, 1 - currentPlayerIndex)) {
-                return;
+    /**
+     * Lion and Tiger may move any distance along a row or column as long as at least one
+     * square passed over is water and no Rat sits in the water passed over.
+     */
+    private void generateJumps(int playerIndex, Piece piece, int from, MoveBuffer out) {
+        long rats = board.getRatMask();
+        int count = RiverJumps.landingCount(from);
+        for (int i = 0; i < count; i++) {
+            if ((RiverJumps.landingWater(from, i) & rats) != 0) {
+                continue;
             }
-            if (!piece.canCapture(targetPiece)) {
-                throw new IllegalArgumentException(piece.getName() + " (rank " + piece.getRank() +
-                        ") cannot capture " + targetPiece.getName() + " (rank " + targetPiece.getRank() + ")");
+            int to = RiverJumps.landingSquare(from, i);
+            if (isLegalJumpLanding(playerIndex, piece, to)) {
+                out.add(Move.encode(from, to));
             }
         }
     }
 
-    private boolean canJumpToPosition(Piece piece, Position from, Position to) {
-        if (from.getRow() != to.getRow() && from.getColumn() != to.getColumn()) {
+    private boolean isLegalJumpLanding(int playerIndex, Piece piece, int to) {
+        if (board.isDen(to, playerIndex)) {
             return false;
         }
+        Piece targetPiece = board.getPieceAt(to);
+        return targetPiece == null ||
+                (targetPiece.getOwner().getPlayerId() != playerIndex
+                        && CaptureRules.canJumpCapture(piece.getTypeIndex(), targetPiece.getTypeIndex()));
+    }
 
-        boolean jumpingOverWater = false;
-        if (from.getRow() == to.getRow()) {
-            int minCol = Math.min(from.getColumn(), to.getColumn());
-            int maxCol = Math.max(from.getColumn(), to.getColumn());
-            for (int col = minCol + 1; col < maxCol; col++) {
-                Position middle = new Position(from.getRow(), col);
-                if (board.isWater(middle)) {
-                    jumpingOverWater = true;
-                    break;
-                }
-            }
-            if (jumpingOverWater && board.hasRatInWaterBetween(from, to)) {
-                throw new IllegalArgumentException(piece.getName() + " cannot jump - Rat blocking the water");
-            }
+    /**
+     * Plays a move from generateLegalMoves for search. Updates the board, captured flags,
+     * win or draw state and side to move like executeMove followed by confirmTurn, but does not
+     * validate, record history or touch undo limits or player piece lists.
+     * Returns a token that must be passed to unmakeMove, in last-in first-out order.
+     */
+    public int makeMove(int move) {
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        Piece piece = board.getPieceAt(from);
+        Piece capturedPiece = board.getPieceAt(to);
+
+        int winnerCode = winner == null ? 0 : winner.getPlayerId() + 1;
+        int token = currentPlayerIndex | (gameOver ? UNDO_GAME_OVER_BIT : 0) | (winnerCode << UNDO_WINNER_SHIFT);
+
+        if (searchPly == searchCaptures.length) {
+            searchCaptures = Arrays.copyOf(searchCaptures, searchPly * 2);
+        }
+        searchCaptures[searchPly++] = capturedPiece;
+        if (capturedPiece != null) {
+            capturedPiece.setCaptured(true);
         }
 
-        if (from.getColumn() == to.getColumn()) {
-            int minRow = Math.min(from.getRow(), to.getRow());
-            int maxRow = Math.max(from.getRow(), to.getRow());
-            for (int row = minRow + 1; row < maxRow; row++) {
-                Position middle = new Position(row, from.getColumn());
-                if (board.isWater(middle)) {
-                    jumpingOverWater = true;
-                    break;
-                }
-            }
-            if (jumpingOverWater && board.hasRatInWaterBetween(from, to)) {
-                throw new IllegalArgumentException(piece.getName() + " cannot jump - Rat blocking the water");
-            }
+        board.removePieceAt(from);
+        board.setPieceAt(to, piece);
+
+        int opponent = 1 - currentPlayerIndex;
+        if (board.isDen(to, opponent) || board.getOccupancy(opponent) == 0) {
+            gameOver = true;
+            winner = players[currentPlayerIndex];
         }
+        if (!gameOver) {
+            currentPlayerIndex = opponent;
+            history.push(getPositionHash(), capturedPiece != null);
+            gameOver = history.isDraw();
+            token |= UNDO_HISTORY_BIT;
+        }
+        return token;
+    }
 
-        if (!jumpingOverWater) {
-            return false;
+    /**
+     * Takes back the most recent makeMove.
+     */
+    public void unmakeMove(int move, int undoToken) {
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        Piece piece = board.getPieceAt(to);
+        Piece capturedPiece = searchCaptures[--searchPly];
+        searchCaptures[searchPly] = null;
+        if ((undoToken & UNDO_HISTORY_BIT) != 0) {
+            history.pop();
         }
 
-        Piece targetPiece = board.getPieceAt(to);
-        if (targetPiece != null) {
-            if (targetPiece.getOwner().equals(piece.getOwner())) {
-                throw new IllegalArgumentException("Cannot land on your own piece");
-            }
-            if (!piece.canCapture(targetPiece)) {
-                throw new IllegalArgumentException(piece.getName() + " cannot capture " +
-                        targetPiece.getName() + " after jumping");
-            }
+        board.removePieceAt(to);
+        board.setPieceAt(from, piece);
+        if (capturedPiece != null) {
+            capturedPiece.setCaptured(false);
+            board.setPieceAt(to, capturedPiece);
         }
 
-        return true;
+        currentPlayerIndex = undoToken & UNDO_PLAYER_BIT;
+        gameOver = (undoToken & UNDO_GAME_OVER_BIT) != 0;
+        int winnerCode = undoToken >>> UNDO_WINNER_SHIFT;
+        winner = winnerCode == 0 ? null : players[winnerCode - 1];
     }
 
     /**
@@ -272,10 +493,38 @@ public class GameManager {
         return gameOver;
     }
 
+    /**
+     * The winner, or null while the game is running or when it ended in a draw.
+     */
     public Player getWinner() {
         return winner;
     }
 
+    public boolean isDraw() {
+        return gameOver && winner == null;
+    }
+
+    public PositionHistory getPositionHistory() {
+        return history;
+    }
+
+    /**
+     * Restarts the position history from the current position, for games set up piece by
+     * piece rather than played from the opening.
+     */
+    public void resetPositionHistory() {
+        history.reset(getPositionHash());
+    }
+
+    /**
+     * Zobrist hash of the piece placement and side to move. The board updates its part on
+     * every move and undo, so this never scans the board.
+     */
+    public long getPositionHash() {
+        long hash = board.getHash();
+        return currentPlayerIndex == 1 ? hash ^ Zobrist.sideKey() : hash;
+    }
+
     public int getCurrentPlayerIndex() {
         return currentPlayerIndex;
     }
@@ -2,29 +2,52 @@ package Java.COMP3211_JungleGame.components;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
 
+/**
+ * Move history and undo allowance for a game. Moves live in a {@link MoveJournal}; the
+ * Motions-based methods build objects on demand for older callers.
+ */
 public class GameRecorder {
-    private final Stack<Motions> moveHistory;
+    private final MoveJournal moveHistory;
     private int player0UndoCount;  // Separate counter for Player 0
     private int player1UndoCount;  // Separate counter for Player 1
     private static final int MAX_UNDO_PER_PLAYER = 3;
 
     public GameRecorder() {
-        this.moveHistory = new Stack<>();
+        this.moveHistory = new MoveJournal();
         this.player0UndoCount = 0;
         this.player1UndoCount = 0;
     }
 
     public void recordMove(Motions move) {
-        moveHistory.push(move);
+        recordMove(move.getFrom().getIndex(), move.getTo().getIndex(), move.getMovedPiece(),
+                move.getCapturedPiece(), move.getPlayerIndex());
+    }
+
+    public void recordMove(int from, int to, Piece movedPiece, Piece capturedPiece, int playerIndex) {
+        moveHistory.add(from, to, movedPiece, capturedPiece, playerIndex);
     }
 
     public Motions peekLastMove() {
         if (moveHistory.isEmpty()) {
             return null;
         }
-        return moveHistory.peek();
+        return moveHistory.toMotions(moveHistory.size() - 1);
+    }
+
+    /**
+     * The packed journal entry of the last move (see {@link MoveJournal}), or -1 when no
+     * move has been made.
+     */
+    public int peekLastEntry() {
+        return moveHistory.isEmpty() ? -1 : moveHistory.last();
+    }
+
+    /**
+     * The piece taken by the last move, or null.
+     */
+    public Piece getLastCapturedPiece() {
+        return moveHistory.isEmpty() ? null : moveHistory.capturedAt(moveHistory.size() - 1);
     }
 
     public Motions undoLastMove(int currentPlayerIndex) {
@@ -32,7 +55,8 @@ public class GameRecorder {
             throw new IllegalStateException(getUndoMessage(currentPlayerIndex));
         }
 
-        Motions move = moveHistory.pop();
+        Motions move = moveHistory.toMotions(moveHistory.size() - 1);
+        moveHistory.removeLast();
 
         // Increment undo count for the current player
         if (currentPlayerIndex == 0) {
@@ -66,8 +90,22 @@ public class GameRecorder {
         return player1UndoCount;
     }
 
+    /**
+     * Copies the history into Motions objects; {@link #getMoves()} reads it without copying.
+     */
     public List<Motions> getAllMoves() {
-        return new ArrayList<>(moveHistory);
+        List<Motions> moves = new ArrayList<>(moveHistory.size());
+        for (int i = 0; i < moveHistory.size(); i++) {
+            moves.add(moveHistory.toMotions(i));
+        }
+        return moves;
+    }
+
+    /**
+     * Read-only view of the moves made so far.
+     */
+    public MoveJournal.View getMoves() {
+        return moveHistory.view();
     }
 
     public int getMoveCount() {
@@ -1,5 +1,7 @@
 package Java.COMP3211_JungleGame.components;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public class Motions {
     private final Position from;
@@ -18,6 +20,19 @@ public class Motions {
         this.timestamp = LocalDateTime.now();
     }
 
+    /**
+     * Rebuilds a move read from a MoveJournal; a timestamp of 0 means none was kept.
+     */
+    Motions(Position from, Position to, Piece movedPiece, Piece capturedPiece, int playerIndex, long timestampMillis) {
+        this.from = from;
+        this.to = to;
+        this.movedPiece = movedPiece;
+        this.capturedPiece = capturedPiece;
+        this.playerIndex = playerIndex;
+        this.timestamp = timestampMillis == 0 ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+    }
+
     public Position getFrom() {
         return from;
     }
@@ -42,6 +57,13 @@ public class Motions {
         return playerIndex;
     }
 
+    /**
+     * When the move was made, or null when it was not recorded.
+     */
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
     @Override
     public String toString() {
         String moveStr = movedPiece.getName() + " from " + from + " to " + to;
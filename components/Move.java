@@ -0,0 +1,57 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * Packs a move into a single int so move lists can live in primitive buffers.
+ * Bits 0-5 hold the source square and bits 6-11 the destination square,
+ * using the board's row * 7 + column numbering.
+ */
+public final class Move {
+    public static final int NONE = 0;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+
+    private Move() {
+    }
+
+    public static int encode(int from, int to) {
+        return from | (to << SQUARE_BITS);
+    }
+
+    public static int getFrom(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getTo(int move) {
+        return (move >>> SQUARE_BITS) & SQUARE_MASK;
+    }
+
+    public static String toString(int move) {
+        return squareToString(getFrom(move)) + squareToString(getTo(move));
+    }
+
+    /**
+     * Parses the toString form, e.g. "A2A3" (case-insensitive).
+     */
+    public static int parse(String text) {
+        String move = text.trim().toUpperCase();
+        if (move.length() != 4) {
+            throw new IllegalArgumentException("Move must be in format: A2A3, got: " + text);
+        }
+        return encode(parseSquare(move, 0), parseSquare(move, 2));
+    }
+
+    private static int parseSquare(String move, int offset) {
+        int column = move.charAt(offset) - 'A';
+        int row = move.charAt(offset + 1) - '0';
+        if (column < 0 || column > 6 || row < 0 || row > 8) {
+            throw new IllegalArgumentException("Square must be A0-G8, got: " + move.substring(offset, offset + 2));
+        }
+        return row * 7 + column;
+    }
+
+    private static String squareToString(int square) {
+        char column = (char) ('A' + square % 7);
+        return "" + column + (square / 7);
+    }
+}
@@ -0,0 +1,65 @@
+package Java.COMP3211_JungleGame.components;
+
+import java.util.Arrays;
+
+/**
+ * Reusable list of packed moves (see {@link Move}). Callers keep one buffer per search ply
+ * and clear it between uses, so generating moves does not allocate.
+ */
+public final class MoveBuffer {
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private int[] moves;
+    private int size;
+
+    public MoveBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveBuffer(int capacity) {
+        this.moves = new int[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Move index " + index + " out of range for size " + size);
+        }
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Move index " + index + " out of range for size " + size);
+        }
+        moves[index] = move;
+    }
+
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
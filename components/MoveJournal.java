@@ -0,0 +1,270 @@
+package Java.COMP3211_JungleGame.components;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Append-only move history packed into ints.
+ *
+ * Each entry holds the from and to squares in the low 12 bits (the same layout as
+ * {@link Move}, so {@code entry & MOVE_MASK} is a playable move), then the mover's type,
+ * the captured type plus one (0 for no capture) and the player. The pieces involved are
+ * kept in parallel arrays so a move can be taken back onto the same Piece objects, and
+ * timestamps are only kept when asked for. Recording a move allocates nothing once the
+ * arrays have grown.
+ *
+ * {@link View}s read the journal's arrays directly; they never copy and cannot modify it.
+ */
+public final class MoveJournal {
+    public static final int MOVE_MASK = 0xFFF;
+    private static final int MOVER_SHIFT = 12;
+    private static final int CAPTURED_SHIFT = 15;
+    private static final int PLAYER_SHIFT = 19;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] entries = new int[INITIAL_CAPACITY];
+    private Piece[] movers = new Piece[INITIAL_CAPACITY];
+    private Piece[] captures = new Piece[INITIAL_CAPACITY];
+    private long[] timestamps;
+    private int size;
+
+    public MoveJournal() {
+        this(false);
+    }
+
+    /**
+     * @param keepTimestamps whether to record the wall-clock time of each move
+     */
+    public MoveJournal(boolean keepTimestamps) {
+        this.timestamps = keepTimestamps ? new long[INITIAL_CAPACITY] : null;
+    }
+
+    public static int encode(int from, int to, int moverType, int capturedType, int playerIndex) {
+        return Move.encode(from, to) | moverType << MOVER_SHIFT | (capturedType + 1) << CAPTURED_SHIFT
+                | playerIndex << PLAYER_SHIFT;
+    }
+
+    public static int moveOf(int entry) {
+        return entry & MOVE_MASK;
+    }
+
+    public static int fromOf(int entry) {
+        return Move.getFrom(entry & MOVE_MASK);
+    }
+
+    public static int toOf(int entry) {
+        return Move.getTo(entry & MOVE_MASK);
+    }
+
+    public static int moverTypeOf(int entry) {
+        return (entry >>> MOVER_SHIFT) & 7;
+    }
+
+    /**
+     * Type of the captured piece, or -1 when the move captured nothing.
+     */
+    public static int capturedTypeOf(int entry) {
+        return ((entry >>> CAPTURED_SHIFT) & 0xF) - 1;
+    }
+
+    public static boolean isCapture(int entry) {
+        return ((entry >>> CAPTURED_SHIFT) & 0xF) != 0;
+    }
+
+    public static int playerOf(int entry) {
+        return (entry >>> PLAYER_SHIFT) & 1;
+    }
+
+    public void add(int from, int to, Piece mover, Piece captured, int playerIndex) {
+        if (size == entries.length) {
+            int capacity = size * 2;
+            entries = java.util.Arrays.copyOf(entries, capacity);
+            movers = java.util.Arrays.copyOf(movers, capacity);
+            captures = java.util.Arrays.copyOf(captures, capacity);
+            if (timestamps != null) {
+                timestamps = java.util.Arrays.copyOf(timestamps, capacity);
+            }
+        }
+        entries[size] = encode(from, to, mover.getTypeIndex(), captured == null ? -1 : captured.getTypeIndex(),
+                playerIndex);
+        movers[size] = mover;
+        captures[size] = captured;
+        if (timestamps != null) {
+            timestamps[size] = System.currentTimeMillis();
+        }
+        size++;
+    }
+
+    /**
+     * Drops the most recent entry and returns it.
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Move journal is empty");
+        }
+        size--;
+        movers[size] = null;
+        captures[size] = null;
+        return entries[size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return entries[index];
+    }
+
+    /**
+     * The most recent entry; the journal must not be empty.
+     */
+    public int last() {
+        return get(size - 1);
+    }
+
+    public Piece moverAt(int index) {
+        checkIndex(index);
+        return movers[index];
+    }
+
+    /**
+     * The piece captured by the move, or null.
+     */
+    public Piece capturedAt(int index) {
+        checkIndex(index);
+        return captures[index];
+    }
+
+    public boolean hasTimestamps() {
+        return timestamps != null;
+    }
+
+    /**
+     * Epoch milliseconds when the move was recorded, or 0 when timestamps are off.
+     */
+    public long timestampAt(int index) {
+        checkIndex(index);
+        return timestamps == null ? 0 : timestamps[index];
+    }
+
+    /**
+     * The entry as a Motions object, for code written against the old history API.
+     */
+    public Motions toMotions(int index) {
+        int entry = get(index);
+        return new Motions(Position.ofIndex(fromOf(entry)), Position.ofIndex(toOf(entry)), movers[index],
+                captures[index], playerOf(entry), timestampAt(index));
+    }
+
+    /**
+     * A read-only view of every entry recorded so far.
+     */
+    public View view() {
+        return new View(this, 0, size);
+    }
+
+    /**
+     * A read-only view of entries {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public View view(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("View " + from + ".." + to + " out of range 0.." + size);
+        }
+        return new View(this, from, to);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range 0.." + size);
+        }
+    }
+
+    /**
+     * A fixed range of a journal. Reads go straight to the journal, so a view is only valid
+     * while the journal still holds its range; reading after the range was taken back throws.
+     */
+    public static final class View {
+        private final MoveJournal journal;
+        private final int start;
+        private final int end;
+
+        private View(MoveJournal journal, int start, int end) {
+            this.journal = journal;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int size() {
+            return end - start;
+        }
+
+        public boolean isEmpty() {
+            return end == start;
+        }
+
+        public int get(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of range 0.." + (end - start));
+            }
+            return journal.get(start + index);
+        }
+
+        public int moveAt(int index) {
+            return moveOf(get(index));
+        }
+
+        public Piece moverAt(int index) {
+            get(index);
+            return journal.moverAt(start + index);
+        }
+
+        public Piece capturedAt(int index) {
+            get(index);
+            return journal.capturedAt(start + index);
+        }
+
+        public long timestampAt(int index) {
+            get(index);
+            return journal.timestampAt(start + index);
+        }
+
+        /**
+         * Iterates the entries without boxing them.
+         */
+        public PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+                private int next = start;
+
+                @Override
+                public boolean hasNext() {
+                    return next < end;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (next >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return journal.get(next++);
+                }
+            };
+        }
+
+        /**
+         * Copies the packed moves (see {@link Move}) into a new array.
+         */
+        public int[] toMoveArray() {
+            int[] moves = new int[end - start];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = moveOf(journal.get(start + i));
+            }
+            return moves;
+        }
+    }
+}
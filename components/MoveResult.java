@@ -0,0 +1,27 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * Outcome of checking a move against the rules. Everything except LEGAL names the first
+ * rule the move breaks; GameManager.describeMoveResult turns a code into a message.
+ */
+public enum MoveResult {
+    LEGAL,
+    NULL_POSITION,
+    NO_PIECE,
+    NOT_YOUR_PIECE,
+    SAME_SQUARE,
+    OWN_PIECE_AT_TARGET,
+    OWN_DEN,
+    RAT_BLOCKS_JUMP,
+    JUMP_CAPTURE_FORBIDDEN,
+    NOT_ADJACENT,
+    WATER_FORBIDDEN,
+    RAT_IN_WATER_VS_RAT_ON_LAND,
+    RAT_IN_WATER_VS_ELEPHANT,
+    RAT_ON_LAND_VS_RAT_IN_WATER,
+    RANK_TOO_LOW;
+
+    public boolean isLegal() {
+        return this == LEGAL;
+    }
+}
@@ -1,10 +1,18 @@
 package Java.COMP3211_JungleGame.components;
 
 public abstract class Piece {
+    public static final int TYPE_COUNT = 8;
+    public static final int RAT = 0;
+    public static final int TIGER = 5;
+    public static final int LION = 6;
+    public static final int ELEPHANT = 7;
+
     protected final int rank;
     protected final Player owner;
     protected Position position;
     protected boolean captured;
+    // Index in the owner's piece array, or -1 when not in it; maintained by Player
+    int slot = -1;
 
     public Piece(int rank, Player owner, Position position) {
         this.rank = rank;
@@ -17,6 +25,13 @@ public abstract class Piece {
         return rank;
     }
 
+    /**
+     * Type index used by the board masks; ranks are unique per animal, so Rat is 0 and Elephant is 7.
+     */
+    public int getTypeIndex() {
+        return rank - 1;
+    }
+
     public Player getOwner() {
         return owner;
     }
@@ -34,7 +49,12 @@ public abstract class Piece {
     }
 
     public void setCaptured(boolean captured) {
-        this.captured = captured;
+        if (this.captured != captured) {
+            this.captured = captured;
+            if (owner != null) {
+                owner.onCapturedChanged(this);
+            }
+        }
     }
 
     public abstract String getSymbol();
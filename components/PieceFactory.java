@@ -0,0 +1,47 @@
+package Java.COMP3211_JungleGame.components;
+
+import Java.COMP3211_JungleGame.components.Animals.*;
+
+/**
+ * Creates pieces from their type index (see {@link Piece#getTypeIndex()}) or board symbol.
+ */
+public final class PieceFactory {
+    private static final char[] SYMBOLS = {'R', 'C', 'D', 'W', 'P', 'T', 'L', 'E'};
+
+    private PieceFactory() {
+    }
+
+    public static Piece create(int type, Player owner, Position position) {
+        switch (type) {
+            case 0: return new Rat(owner, position);
+            case 1: return new Cat(owner, position);
+            case 2: return new Dog(owner, position);
+            case 3: return new Wolf(owner, position);
+            case 4: return new Leopard(owner, position);
+            case 5: return new Tiger(owner, position);
+            case 6: return new Lion(owner, position);
+            case 7: return new Elephant(owner, position);
+            default: throw new IllegalArgumentException("Unknown piece type: " + type);
+        }
+    }
+
+    public static Piece create(char symbol, Player owner, Position position) {
+        return create(typeOf(symbol), owner, position);
+    }
+
+    public static char symbolOf(int type) {
+        if (type < 0 || type >= SYMBOLS.length) {
+            throw new IllegalArgumentException("Unknown piece type: " + type);
+        }
+        return SYMBOLS[type];
+    }
+
+    public static int typeOf(char symbol) {
+        for (int type = 0; type < SYMBOLS.length; type++) {
+            if (SYMBOLS[type] == symbol) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown piece symbol: " + symbol);
+    }
+}
@@ -1,18 +1,33 @@
 package Java.COMP3211_JungleGame.components;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * A player and the pieces they own.
+ *
+ * Besides the piece list, the player keeps counts of their live (uncaptured) pieces: per
+ * type, as a bitset of the types still on the board, and as total material by rank.
+ * Pieces report capture changes to their owner, so the counts follow every capture and
+ * undo, including makeMove and unmakeMove, and the queries below never allocate.
+ */
 public class Player {
     private final String name;
     private final int playerId;
-    private final List<Piece> pieces;
+    private Piece[] pieces;
+    private int pieceCount;
+    private final int[] typeCounts;
+    private int liveTypes;
+    private int liveCount;
+    private int material;
 
     public Player(String name, int playerId) {
         this.name = name;
         this.playerId = playerId;
-        this.pieces = new ArrayList<>();
+        this.pieces = new Piece[Piece.TYPE_COUNT];
+        this.typeCounts = new int[Piece.TYPE_COUNT];
     }
 
     public String getName() {
@@ -24,29 +39,112 @@ public class Player {
     }
 
     public List<Piece> getPieces() {
-        return new ArrayList<>(pieces);
+        return new ArrayList<>(Arrays.asList(pieces).subList(0, pieceCount));
     }
 
     public void addPiece(Piece piece) {
-        pieces.add(piece);
+        if (owns(piece)) {
+            return;
+        }
+        if (pieceCount == pieces.length) {
+            pieces = Arrays.copyOf(pieces, pieceCount * 2);
+        }
+        piece.slot = pieceCount;
+        pieces[pieceCount++] = piece;
+        if (!piece.isCaptured()) {
+            countLive(piece, 1);
+        }
     }
 
+    /**
+     * Removes the piece by swapping the last piece into its slot.
+     */
     public void removePiece(Piece piece) {
-        pieces.remove(piece);
+        if (!owns(piece)) {
+            return;
+        }
+        int slot = piece.slot;
+        Piece last = pieces[--pieceCount];
+        pieces[slot] = last;
+        last.slot = slot;
+        pieces[pieceCount] = null;
+        piece.slot = -1;
+        if (!piece.isCaptured()) {
+            countLive(piece, -1);
+        }
+    }
+
+    /**
+     * Called by a piece when its captured flag changes.
+     */
+    void onCapturedChanged(Piece piece) {
+        if (owns(piece)) {
+            countLive(piece, piece.isCaptured() ? -1 : 1);
+        }
     }
 
     public List<Piece> getActivePieces() {
         List<Piece> active = new ArrayList<>();
-        for (Piece piece : pieces) {
-            if (!piece.isCaptured()) {
-                active.add(piece);
+        for (int i = 0; i < pieceCount; i++) {
+            if (!pieces[i].isCaptured()) {
+                active.add(pieces[i]);
             }
         }
         return active;
     }
 
     public boolean hasLost() {
-        return getActivePieces().isEmpty();
+        return liveCount == 0;
+    }
+
+    public int getPieceCount() {
+        return pieceCount;
+    }
+
+    /**
+     * Number of uncaptured pieces.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    public int getLiveCount(int type) {
+        return typeCounts[type];
+    }
+
+    /**
+     * Bitset of the types with at least one uncaptured piece; bit n is type n (Rat is bit 0).
+     */
+    public int getLiveTypes() {
+        return liveTypes;
+    }
+
+    public boolean hasLiveType(int type) {
+        return (liveTypes & (1 << type)) != 0;
+    }
+
+    /**
+     * Sum of the ranks of the uncaptured pieces.
+     */
+    public int getMaterial() {
+        return material;
+    }
+
+    private boolean owns(Piece piece) {
+        int slot = piece.slot;
+        return slot >= 0 && slot < pieceCount && pieces[slot] == piece;
+    }
+
+    private void countLive(Piece piece, int delta) {
+        int type = piece.getTypeIndex();
+        typeCounts[type] += delta;
+        if (typeCounts[type] == 0) {
+            liveTypes &= ~(1 << type);
+        } else {
+            liveTypes |= 1 << type;
+        }
+        liveCount += delta;
+        material += delta * piece.getRank();
     }
 
     @Override
@@ -2,8 +2,20 @@ package Java.COMP3211_JungleGame.components;
 import java.util.Objects;
 
 public class Position {
+    private static final int ROWS = 9;
+    private static final int COLS = 7;
+    private static final Position[] CANONICAL = new Position[ROWS * COLS];
+
+    static {
+        for (int index = 0; index < CANONICAL.length; index++) {
+            CANONICAL[index] = new Position(index / COLS, index % COLS);
+        }
+    }
+
     private final int row;
     private final int column;
+    private final int index;
+    private final int hash;
 
     public Position(int row, int column) {
         if (row < 0 || row > 8 || column < 0 || column > 6) {
@@ -11,6 +23,28 @@ public class Position {
         }
         this.row = row;
         this.column = column;
+        this.index = row * COLS + column;
+        this.hash = Objects.hash(row, column);
+    }
+
+    /**
+     * Returns the shared instance for a square instead of allocating a new one.
+     */
+    public static Position of(int row, int column) {
+        if (row < 0 || row > 8 || column < 0 || column > 6) {
+            throw new IllegalArgumentException("Invalid position: (" + row + ", " + column + ")");
+        }
+        return CANONICAL[row * COLS + column];
+    }
+
+    /**
+     * Returns the shared instance for a packed square index (row * 7 + column).
+     */
+    public static Position ofIndex(int index) {
+        if (index < 0 || index >= CANONICAL.length) {
+            throw new IllegalArgumentException("Invalid square index: " + index);
+        }
+        return CANONICAL[index];
     }
 
     public int getRow() {
@@ -21,6 +55,10 @@ public class Position {
         return column;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     public boolean isAdjacentTo(Position other) {
         int rowDiff = Math.abs(this.row - other.row);
         int colDiff = Math.abs(this.column - other.column);
@@ -36,12 +74,12 @@ public class Position {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Position position = (Position) obj;
-        return row == position.row && column == position.column;
+        return index == position.index;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, column);
+        return hash;
     }
 
     @Override
@@ -49,4 +87,3 @@ public class Position {
         return "(" + row + ", " + column + ")";
     }
 }
-
@@ -0,0 +1,204 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * Position hashes of the game so far, for adjudicating draws by repetition and by a run
+ * of moves without a capture.
+ *
+ * Hashes are kept on a stack so moves can be taken back, with an open-addressed
+ * hash-to-count table (linear probing, backward-shift deletion) alongside, so pushing,
+ * popping and asking how often the current position has occurred are all constant time
+ * and allocation free once the arrays have grown.
+ *
+ * Limits are read once from the jungle.draw.repetitions (default 3) and
+ * jungle.draw.nocapture (default 100 plies) system properties; 0 turns a rule off.
+ * Copies keep the limits of the history they were made from.
+ */
+public final class PositionHistory {
+    private static final String REPETITIONS_PROPERTY = "jungle.draw.repetitions";
+    private static final String NO_CAPTURE_PROPERTY = "jungle.draw.nocapture";
+    public static final int DEFAULT_REPETITIONS = 3;
+    public static final int DEFAULT_NO_CAPTURE_PLIES = 100;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int CONFIGURED_REPETITIONS = Integer.getInteger(REPETITIONS_PROPERTY, DEFAULT_REPETITIONS);
+    private static final int CONFIGURED_NO_CAPTURE_PLIES = Integer.getInteger(NO_CAPTURE_PROPERTY,
+            DEFAULT_NO_CAPTURE_PLIES);
+
+    private int repetitionLimit;
+    private int noCaptureLimit;
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private int[] quietPlies = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Open-addressed counts; a zero count marks a free slot
+    private long[] keys = new long[INITIAL_CAPACITY * 2];
+    private int[] counts = new int[INITIAL_CAPACITY * 2];
+    private int distinct;
+
+    public PositionHistory(int repetitionLimit, int noCaptureLimit) {
+        setLimits(repetitionLimit, noCaptureLimit);
+    }
+
+    public static PositionHistory fromConfig() {
+        return new PositionHistory(CONFIGURED_REPETITIONS, CONFIGURED_NO_CAPTURE_PLIES);
+    }
+
+    public void setLimits(int repetitionLimit, int noCaptureLimit) {
+        if (repetitionLimit < 0 || noCaptureLimit < 0) {
+            throw new IllegalArgumentException("Draw limits cannot be negative");
+        }
+        this.repetitionLimit = repetitionLimit;
+        this.noCaptureLimit = noCaptureLimit;
+    }
+
+    /**
+     * Forgets everything and starts again from the given position.
+     */
+    public void reset(long hash) {
+        size = 0;
+        distinct = 0;
+        java.util.Arrays.fill(counts, 0);
+        push(hash, true);
+    }
+
+    /**
+     * Records the position reached by a move; capture restarts the no-capture count.
+     */
+    public void push(long hash, boolean capture) {
+        if (size == hashes.length) {
+            hashes = java.util.Arrays.copyOf(hashes, size * 2);
+            quietPlies = java.util.Arrays.copyOf(quietPlies, size * 2);
+        }
+        hashes[size] = hash;
+        quietPlies[size] = capture || size == 0 ? 0 : quietPlies[size - 1] + 1;
+        size++;
+        increment(hash);
+    }
+
+    /**
+     * Forgets the most recent position.
+     */
+    public void pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Position history is empty");
+        }
+        decrement(hashes[--size]);
+    }
+
+    /**
+     * How many times the current position has occurred, counting this time.
+     */
+    public int getRepetitions() {
+        return size == 0 ? 0 : countOf(hashes[size - 1]);
+    }
+
+    public int getPliesSinceCapture() {
+        return size == 0 ? 0 : quietPlies[size - 1];
+    }
+
+    /**
+     * True when the current position has repeated or gone without a capture long enough
+     * to end the game as a draw.
+     */
+    public boolean isDraw() {
+        return (repetitionLimit > 0 && getRepetitions() >= repetitionLimit)
+                || (noCaptureLimit > 0 && getPliesSinceCapture() >= noCaptureLimit);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRepetitionLimit() {
+        return repetitionLimit;
+    }
+
+    public int getNoCaptureLimit() {
+        return noCaptureLimit;
+    }
+
+    public PositionHistory copy() {
+        PositionHistory copy = new PositionHistory(repetitionLimit, noCaptureLimit);
+        copy.hashes = hashes.clone();
+        copy.quietPlies = quietPlies.clone();
+        copy.size = size;
+        copy.keys = keys.clone();
+        copy.counts = counts.clone();
+        copy.distinct = distinct;
+        return copy;
+    }
+
+    private int countOf(long hash) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(hash, mask); counts[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == hash) {
+                return counts[slot];
+            }
+        }
+        return 0;
+    }
+
+    private void increment(long hash) {
+        int mask = keys.length - 1;
+        int slot = slotOf(hash, mask);
+        while (counts[slot] != 0) {
+            if (keys[slot] == hash) {
+                counts[slot]++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = hash;
+        counts[slot] = 1;
+        distinct++;
+        // Keep the table at most half full so probe runs stay short
+        if (distinct * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    private void decrement(long hash) {
+        int mask = keys.length - 1;
+        int slot = slotOf(hash, mask);
+        while (keys[slot] != hash || counts[slot] == 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (--counts[slot] > 0) {
+            return;
+        }
+        distinct--;
+        // Backward-shift deletion: pull later entries of the probe run into the gap
+        int gap = slot;
+        for (int next = (gap + 1) & mask; counts[next] != 0; next = (next + 1) & mask) {
+            int home = slotOf(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                counts[gap] = counts[next];
+                counts[next] = 0;
+                gap = next;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[capacity];
+        counts = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (counts[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int slotOf(long hash, int mask) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
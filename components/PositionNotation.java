@@ -0,0 +1,110 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * One-line text form of a position, in the style of chess FEN.
+ *
+ * The board is written row 8 first down to row 0, rows separated by '/'. Within a row,
+ * from column A to G, a piece is its symbol (see {@link PieceFactory}), upper case for
+ * player 0 and lower case for player 1, and a digit 1-7 stands for that many empty
+ * squares. The side to move (0 or 1) follows after a space. The opening position is
+ * {@link #START}, and the board part matches the rows printed by the engine protocol's
+ * board command with the empty runs counted.
+ *
+ * Parsing places each piece straight onto an empty board in a single pass over the text,
+ * so building a position costs no more than the pieces on it.
+ */
+public final class PositionNotation {
+    public static final String START = "t5l/1c3d1/e1w1p1r/7/7/7/R1P1W1E/1D3C1/L5T 0";
+
+    private static final int ROWS = 9;
+    private static final int COLS = 7;
+
+    private PositionNotation() {
+    }
+
+    /**
+     * Writes the game's position and side to move.
+     */
+    public static String toNotation(GameManager game) {
+        return toNotation(game.getBoard(), game.getCurrentPlayerIndex());
+    }
+
+    public static String toNotation(Board board, int sideToMove) {
+        StringBuilder out = new StringBuilder(40);
+        for (int row = ROWS - 1; row >= 0; row--) {
+            int empty = 0;
+            for (int col = 0; col < COLS; col++) {
+                Piece piece = board.getPieceAt(row * COLS + col);
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    out.append((char) ('0' + empty));
+                    empty = 0;
+                }
+                char symbol = PieceFactory.symbolOf(piece.getTypeIndex());
+                out.append(piece.getOwner().getPlayerId() == 0 ? symbol : Character.toLowerCase(symbol));
+            }
+            if (empty > 0) {
+                out.append((char) ('0' + empty));
+            }
+            if (row > 0) {
+                out.append('/');
+            }
+        }
+        return out.append(' ').append(sideToMove).toString();
+    }
+
+    /**
+     * Builds a game from a notation string. The move record and position history start
+     * from the parsed position.
+     */
+    public static GameManager parse(String notation, Player player0, Player player1) {
+        String text = notation.trim();
+        GameManager game = GameManager.empty(player0, player1);
+        int row = ROWS - 1;
+        int col = 0;
+        int i = 0;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ') {
+                break;
+            }
+            if (c == '/') {
+                if (col != COLS) {
+                    throw new IllegalArgumentException("Row " + row + " has " + col + " squares, expected " + COLS
+                            + ": " + notation);
+                }
+                if (--row < 0) {
+                    throw new IllegalArgumentException("Too many rows: " + notation);
+                }
+                col = 0;
+            } else if (c >= '1' && c <= '7') {
+                col += c - '0';
+                if (col > COLS) {
+                    throw new IllegalArgumentException("Row " + row + " is too long: " + notation);
+                }
+            } else {
+                if (col >= COLS) {
+                    throw new IllegalArgumentException("Row " + row + " is too long: " + notation);
+                }
+                int player = Character.isUpperCase(c) ? 0 : 1;
+                game.placePiece(player, PieceFactory.typeOf(Character.toUpperCase(c)), row * COLS + col);
+                col++;
+            }
+        }
+        if (row != 0 || col != COLS) {
+            throw new IllegalArgumentException("Board must have " + ROWS + " rows of " + COLS + " squares: "
+                    + notation);
+        }
+
+        String side = text.substring(i).trim();
+        if (!side.equals("0") && !side.equals("1")) {
+            throw new IllegalArgumentException("Side to move must be 0 or 1, got: '" + side + "'");
+        }
+        game.setCurrentPlayerIndex(side.charAt(0) - '0');
+        game.resetPositionHistory();
+        return game;
+    }
+}
@@ -0,0 +1,83 @@
+package Java.COMP3211_JungleGame.components;
+
+/**
+ * Precomputed Lion/Tiger jump tables.
+ *
+ * A jump is any straight move along a row or column that passes over at least one
+ * water square. For every source square this holds the landing squares and, per
+ * landing, the water squares passed over; the jump is blocked when any of those
+ * holds a Rat, so checking one is a table lookup plus a single mask test.
+ */
+public final class RiverJumps {
+    private static final int ROWS = 9;
+    private static final int COLS = 7;
+    private static final int SQUARES = ROWS * COLS;
+
+    private static final long[] WATER_BETWEEN = new long[SQUARES * SQUARES];
+    private static final int[][] LANDINGS = new int[SQUARES][];
+    private static final long[][] LANDING_WATER = new long[SQUARES][];
+
+    static {
+        long waterMask = Board.getWaterMask();
+        int[] landings = new int[SQUARES];
+        long[] water = new long[SQUARES];
+        for (int from = 0; from < SQUARES; from++) {
+            int count = 0;
+            for (int to = 0; to < SQUARES; to++) {
+                long passed = squaresBetween(from, to) & waterMask;
+                WATER_BETWEEN[from * SQUARES + to] = passed;
+                if (passed != 0) {
+                    landings[count] = to;
+                    water[count] = passed;
+                    count++;
+                }
+            }
+            LANDINGS[from] = java.util.Arrays.copyOf(landings, count);
+            LANDING_WATER[from] = java.util.Arrays.copyOf(water, count);
+        }
+    }
+
+    private RiverJumps() {
+    }
+
+    /**
+     * Water squares strictly between two squares on the same row or column; 0 when
+     * the squares are not in line or nothing between them is water.
+     */
+    public static long waterBetween(int from, int to) {
+        return WATER_BETWEEN[from * SQUARES + to];
+    }
+
+    public static int landingCount(int from) {
+        return LANDINGS[from].length;
+    }
+
+    public static int landingSquare(int from, int index) {
+        return LANDINGS[from][index];
+    }
+
+    public static long landingWater(int from, int index) {
+        return LANDING_WATER[from][index];
+    }
+
+    private static long squaresBetween(int from, int to) {
+        int fromRow = from / COLS;
+        int fromCol = from % COLS;
+        int toRow = to / COLS;
+        int toCol = to % COLS;
+        long between = 0L;
+        if (from == to) {
+            return between;
+        }
+        if (fromRow == toRow) {
+            for (int col = Math.min(fromCol, toCol) + 1; col < Math.max(fromCol, toCol); col++) {
+                between |= 1L << (fromRow * COLS + col);
+            }
+        } else if (fromCol == toCol) {
+            for (int row = Math.min(fromRow, toRow) + 1; row < Math.max(fromRow, toRow); row++) {
+                between |= 1L << (row * COLS + fromCol);
+            }
+        }
+        return between;
+    }
+}
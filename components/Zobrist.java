@@ -0,0 +1,51 @@
+package Java.COMP3211_JungleGame.components;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for hashing positions. Keys come from a fixed seed so hashes are stable
+ * across runs and can be stored in files such as opening books.
+ */
+public final class Zobrist {
+    private static final int SQUARES = 63;
+    private static final long SEED = 0x4A554E474C45L;
+    private static final long[] PIECE_KEYS = new long[2 * Piece.TYPE_COUNT * SQUARES];
+    private static final long SIDE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < PIECE_KEYS.length; i++) {
+            PIECE_KEYS[i] = random.nextLong();
+        }
+        SIDE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long pieceKey(int playerId, int type, int square) {
+        return PIECE_KEYS[(playerId * Piece.TYPE_COUNT + type) * SQUARES + square];
+    }
+
+    /**
+     * Key XORed in when player 1 is to move.
+     */
+    public static long sideKey() {
+        return SIDE_KEY;
+    }
+
+    /**
+     * Hashes a position from scratch. The board and GameManager keep their hashes up to
+     * date incrementally; this is only for verification.
+     */
+    public static long compute(Board board, int sideToMove) {
+        long hash = sideToMove == 1 ? SIDE_KEY : 0L;
+        for (int square = 0; square < SQUARES; square++) {
+            Piece piece = board.getPieceAt(square);
+            if (piece != null) {
+                hash ^= pieceKey(piece.getOwner().getPlayerId(), piece.getTypeIndex(), square);
+            }
+        }
+        return hash;
+    }
+}
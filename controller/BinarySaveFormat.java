@@ -0,0 +1,130 @@
+package Java.COMP3211_JungleGame.controller;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Binary .jungle save format.
+ *
+ * Layout (big-endian): magic "JNGL", version byte, side to move byte, the two player
+ * names (unsigned short length then UTF-8 bytes), the occupied squares as a 64-bit mask,
+ * one byte per occupied square in square order holding player * 8 + type, and finally a
+ * CRC32 of everything before it. A full opening position takes under 60 bytes plus the
+ * names. Only the position is stored, not the moves that led to it.
+ */
+public final class BinarySaveFormat {
+    static final int MAGIC = 0x4A4E474C;
+    static final int VERSION = 1;
+    private static final int SQUARES = 63;
+
+    private BinarySaveFormat() {
+    }
+
+    /**
+     * True when the buffer starts with the binary magic; the position is not changed.
+     */
+    public static boolean isBinary(ByteBuffer data) {
+        return data.remaining() >= 4 && data.getInt(data.position()) == MAGIC;
+    }
+
+    public static ByteBuffer encode(GameManager game) {
+        byte[] name0 = game.getPlayer(0).getName().getBytes(StandardCharsets.UTF_8);
+        byte[] name1 = game.getPlayer(1).getName().getBytes(StandardCharsets.UTF_8);
+        if (name0.length > 0xFFFF || name1.length > 0xFFFF) {
+            throw new IllegalArgumentException("Player name too long to save");
+        }
+        Board board = game.getBoard();
+        long occupied = board.getOccupancy();
+
+        ByteBuffer out = ByteBuffer.allocate(4 + 1 + 1 + 2 + name0.length + 2 + name1.length + 8
+                + Long.bitCount(occupied) + 4);
+        out.putInt(MAGIC);
+        out.put((byte) VERSION);
+        out.put((byte) game.getCurrentPlayerIndex());
+        out.putShort((short) name0.length).put(name0);
+        out.putShort((short) name1.length).put(name1);
+        out.putLong(occupied);
+        long squares = occupied;
+        while (squares != 0) {
+            int square = Long.numberOfTrailingZeros(squares);
+            squares &= squares - 1;
+            Piece piece = board.getPieceAt(square);
+            out.put((byte) (piece.getOwner().getPlayerId() * Piece.TYPE_COUNT + piece.getTypeIndex()));
+        }
+        out.putInt((int) checksum(out.array(), out.position()));
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Builds a game from binary save data, placing the pieces straight onto an empty board.
+     */
+    public static GameManager decode(ByteBuffer data) throws IOException {
+        int start = data.position();
+        int length = data.remaining();
+        if (length < 4 + 1 + 1 + 2 + 2 + 8 + 4 || data.getInt() != MAGIC) {
+            throw new IOException("Not a binary save file");
+        }
+        int version = data.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version: " + version);
+        }
+        byte[] bytes = new byte[length - 4];
+        data.get(start, bytes);
+        int storedChecksum = data.getInt(start + length - 4);
+        if ((int) checksum(bytes, bytes.length) != storedChecksum) {
+            throw new IOException("Save file is corrupt (checksum mismatch)");
+        }
+
+        try {
+            int side = data.get();
+            if (side != 0 && side != 1) {
+                throw new IOException("Invalid side to move: " + side);
+            }
+            String name0 = readName(data);
+            String name1 = readName(data);
+            long occupied = data.getLong();
+            if ((occupied >>> SQUARES) != 0) {
+                throw new IOException("Occupancy mask has squares off the board");
+            }
+
+            GameManager game = GameManager.empty(new Player(name0, 0), new Player(name1, 1));
+            long squares = occupied;
+            while (squares != 0) {
+                int square = Long.numberOfTrailingZeros(squares);
+                squares &= squares - 1;
+                int code = data.get() & 0xFF;
+                if (code >= 2 * Piece.TYPE_COUNT) {
+                    throw new IOException("Invalid piece code " + code + " at " + Position.ofIndex(square));
+                }
+                game.placePiece(code / Piece.TYPE_COUNT, code % Piece.TYPE_COUNT, square);
+            }
+            if (data.position() != start + length - 4) {
+                throw new IOException("Unexpected data after the board");
+            }
+            data.position(start + length);
+            game.setCurrentPlayerIndex(side);
+            game.resetPositionHistory();
+            return game;
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("Save file is truncated");
+        }
+    }
+
+    private static String readName(ByteBuffer data) {
+        int length = data.getShort() & 0xFFFF;
+        byte[] name = new byte[length];
+        data.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static long checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,301 @@
+package Java.COMP3211_JungleGame.controller;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.engine.ParallelSearch;
+import Java.COMP3211_JungleGame.engine.SearchEngine;
+import Java.COMP3211_JungleGame.engine.SearchLimits;
+import Java.COMP3211_JungleGame.engine.SearchResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Line-based text protocol for driving the game and engine from another program,
+ * in the spirit of UCI. One command per line on the input, replies on the output:
+ *
+ *   jungle                         -> id name ..., then jungleok
+ *   isready                        -> readyok
+ *   newgame                        start position, cleared transposition table
+ *   position startpos [moves M..]  start position plus the given moves
+ *   position notation B S [moves M..]
+ *                                  position in PositionNotation form plus the given moves
+ *   move M [M..]                   play moves on the current position
+ *   go [depth N] [movetime MS] [nodes N] [infinite]
+ *                                  search; info line per iteration, then bestmove M
+ *   stop                           end the running search early
+ *   legal                          -> legal M.. for the side to move
+ *   board                          -> board rows 8 to 0, then side to move
+ *   notation                       -> notation B S for the current position
+ *   quit                           exit
+ *
+ * Moves use the A2A3 form. A search runs on its own thread so stop and isready are
+ * answered while it runs; any other command waits for the search to finish first.
+ * Errors are reported as "info string error ..." and the command is ignored.
+ */
+public class EngineProtocol {
+    private static final String ENGINE_NAME = "Jungle";
+
+    private final BufferedReader in;
+    private final PrintStream out;
+    private final ParallelSearch search;
+    private GameManager game;
+    private Thread searchThread;
+
+    public EngineProtocol(BufferedReader in, PrintStream out) {
+        this(in, out, ParallelSearch.fromConfig());
+    }
+
+    public EngineProtocol(BufferedReader in, PrintStream out, ParallelSearch search) {
+        this.in = in;
+        this.out = out;
+        this.search = search;
+        this.game = newGame();
+        search.setListener(this::sendInfo);
+    }
+
+    /**
+     * Reads commands until quit or end of input.
+     */
+    public void run() throws IOException {
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!handle(line)) {
+                    break;
+                }
+            }
+        } finally {
+            stopSearch();
+            search.shutdown();
+        }
+    }
+
+    /**
+     * Handles one command line. Returns false when the session should end.
+     */
+    boolean handle(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        String command = tokens[0].toLowerCase();
+        if (command.isEmpty()) {
+            return true;
+        }
+        switch (command) {
+            case "stop" -> {
+                stopSearch();
+                return true;
+            }
+            case "isready" -> {
+                send("readyok");
+                return true;
+            }
+            case "quit" -> {
+                return false;
+            }
+            default -> {
+            }
+        }
+
+        waitForSearch();
+        try {
+            switch (command) {
+                case "jungle" -> {
+                    send("id name " + ENGINE_NAME);
+                    send("option threads " + search.getThreadCount());
+                    send("jungleok");
+                }
+                case "newgame" -> {
+                    game = newGame();
+                    search.getTable().clear();
+                }
+                case "position" -> setPosition(tokens);
+                case "move" -> playMoves(tokens, 1);
+                case "go" -> startSearch(parseLimits(tokens));
+                case "legal" -> sendLegalMoves();
+                case "board" -> sendBoard();
+                case "notation" -> send("notation " + PositionNotation.toNotation(game));
+                default -> sendError("unknown command: " + tokens[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(e.getMessage());
+        }
+        return true;
+    }
+
+    private GameManager newGame() {
+        return new GameManager(new Player("Player 0", 0), new Player("Player 1", 1));
+    }
+
+    private void setPosition(String[] tokens) {
+        GameManager previous = game;
+        int next;
+        if (tokens.length >= 2 && tokens[1].equalsIgnoreCase("startpos")) {
+            game = newGame();
+            next = 2;
+        } else if (tokens.length >= 4 && tokens[1].equalsIgnoreCase("notation")) {
+            game = GameManager.fromNotation(tokens[2] + " " + tokens[3], new Player("Player 0", 0),
+                    new Player("Player 1", 1));
+            next = 4;
+        } else {
+            throw new IllegalArgumentException("expected: position startpos|notation B S [moves ...]");
+        }
+        if (tokens.length > next) {
+            if (!tokens[next].equalsIgnoreCase("moves")) {
+                game = previous;
+                throw new IllegalArgumentException("expected 'moves' after the position, got: " + tokens[next]);
+            }
+            try {
+                playMoves(tokens, next + 1);
+            } catch (IllegalArgumentException e) {
+                game = previous;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Plays tokens[first..] in order. Stops at the first illegal move, leaving the earlier
+     * moves played.
+     */
+    private void playMoves(String[] tokens, int first) {
+        for (int i = first; i < tokens.length; i++) {
+            int move = Move.parse(tokens[i]);
+            if (game.isGameOver()) {
+                throw new IllegalArgumentException("game is over, cannot play " + tokens[i]);
+            }
+            Position from = Position.ofIndex(Move.getFrom(move));
+            Position to = Position.ofIndex(Move.getTo(move));
+            MoveResult result = game.tryExecuteMove(from, to);
+            if (!result.isLegal()) {
+                throw new IllegalArgumentException("illegal move " + tokens[i] + ": " +
+                        game.describeMoveResult(result, from, to));
+            }
+            game.confirmTurn();
+        }
+    }
+
+    private SearchLimits parseLimits(String[] tokens) {
+        int depth = SearchLimits.MAX_DEPTH;
+        long time = 0;
+        long nodes = 0;
+        for (int i = 1; i < tokens.length; i++) {
+            String option = tokens[i].toLowerCase();
+            if (option.equals("infinite")) {
+                continue;
+            }
+            if (i + 1 >= tokens.length) {
+                throw new IllegalArgumentException("missing value for " + option);
+            }
+            long value;
+            try {
+                value = Long.parseLong(tokens[++i]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("value for " + option + " must be a number, got: " + tokens[i]);
+            }
+            switch (option) {
+                case "depth" -> depth = (int) Math.min(Math.max(value, 1), SearchLimits.MAX_DEPTH);
+                case "movetime" -> time = value;
+                case "nodes" -> nodes = value;
+                default -> throw new IllegalArgumentException("unknown go option: " + option);
+            }
+        }
+        return new SearchLimits(depth, time, nodes);
+    }
+
+    private void startSearch(SearchLimits limits) {
+        GameManager position = game;
+        search.resetStop();
+        searchThread = new Thread(() -> {
+            SearchResult result = search.search(position, limits);
+            send("bestmove " + (result.hasMove() ? Move.toString(result.getBestMove()) : "none"));
+        }, "protocol-search");
+        searchThread.start();
+    }
+
+    private void stopSearch() {
+        if (searchThread != null) {
+            search.stop();
+            waitForSearch();
+        }
+    }
+
+    private void waitForSearch() {
+        if (searchThread == null) {
+            return;
+        }
+        try {
+            searchThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        searchThread = null;
+    }
+
+    private void sendInfo(SearchResult result) {
+        StringBuilder line = new StringBuilder("info depth ").append(result.getDepth()).append(" score ");
+        int score = result.getScore();
+        if (SearchEngine.isWinScore(score)) {
+            int plies = SearchEngine.WIN_SCORE - Math.abs(score);
+            line.append("win ").append(score > 0 ? plies : -plies);
+        } else {
+            line.append(score);
+        }
+        line.append(" nodes ").append(result.getNodes())
+                .append(" nps ").append(Math.round(result.getNodesPerSecond()))
+                .append(" time ").append(result.getElapsedNanos() / 1_000_000)
+                .append(" pv");
+        for (int move : result.getPrincipalVariation()) {
+            line.append(' ').append(Move.toString(move));
+        }
+        send(line.toString());
+    }
+
+    private void sendLegalMoves() {
+        StringBuilder line = new StringBuilder("legal");
+        if (!game.isGameOver()) {
+            MoveBuffer moves = new MoveBuffer();
+            game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+            for (int i = 0; i < moves.size(); i++) {
+                line.append(' ').append(Move.toString(moves.get(i)));
+            }
+        }
+        send(line.toString());
+    }
+
+    /**
+     * Plain board dump: player 0's pieces in upper case, player 1's in lower case.
+     */
+    private void sendBoard() {
+        Board board = game.getBoard();
+        for (int row = 8; row >= 0; row--) {
+            StringBuilder line = new StringBuilder("board ").append(row).append(' ');
+            for (int col = 0; col < 7; col++) {
+                Piece piece = board.getPieceAt(row * 7 + col);
+                if (piece == null) {
+                    line.append('.');
+                } else {
+                    char symbol = piece.getSymbol().charAt(0);
+                    line.append(piece.getOwner().getPlayerId() == 0 ? symbol : Character.toLowerCase(symbol));
+                }
+            }
+            send(line.toString());
+        }
+        if (game.isGameOver()) {
+            Player winner = game.getWinner();
+            send("gameover " + (winner == null ? "draw" : "winner " + winner.getPlayerId()));
+        } else {
+            send("tomove " + game.getCurrentPlayerIndex());
+        }
+    }
+
+    private void sendError(String message) {
+        send("info string error " + message);
+    }
+
+    private void send(String line) {
+        synchronized (out) {
+            out.println(line);
+            out.flush();
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package Java.COMP3211_JungleGame.controller;
 
 import Java.COMP3211_JungleGame.components.*;
-import Java.COMP3211_JungleGame.components.Animals.*;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,12 +22,34 @@ public class FileManager {
         new File(DEFAULT_RECORD_DIR).mkdirs();
     }
 
+    /**
+     * Saves the position in the binary .jungle format (see {@link BinarySaveFormat}).
+     */
     public boolean saveGame(String filename, GameManager gameManager) {
-        if (!filename.endsWith(GAME_EXTENSION)) {
-            filename += GAME_EXTENSION;
+        try {
+            saveGame(Paths.get(DEFAULT_SAVE_DIR, withExtension(filename)), gameManager);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error saving game: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public void saveGame(Path path, GameManager gameManager) throws IOException {
+        ByteBuffer data = BinarySaveFormat.encode(gameManager);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
         }
+    }
 
-        String filepath = DEFAULT_SAVE_DIR + filename;
+    /**
+     * Saves the position in the older line-based text format, which loadGame still reads.
+     */
+    public boolean saveGameAsText(String filename, GameManager gameManager) {
+        String filepath = DEFAULT_SAVE_DIR + withExtension(filename);
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filepath))) {
             writer.write("CURRENT_PLAYER:" + gameManager.getCurrentPlayerIndex());
@@ -39,7 +66,7 @@ public class FileManager {
             Board board = gameManager.getBoard();
             for (int row = 0; row < board.getRows(); row++) {
                 for (int col = 0; col < board.getCols(); col++) {
-                    Piece piece = board.getPieceAt(new Position(row, col));
+                    Piece piece = board.getPieceAt(Position.of(row, col));
                     if (piece == null) {
                         writer.write("--");
                     } else {
@@ -68,14 +95,42 @@ public class FileManager {
         }
     }
 
+    /**
+     * Loads a saved game in either the binary or the text format.
+     */
     public GameManager loadGame(String filename) {
-        if (!filename.endsWith(GAME_EXTENSION)) {
-            filename += GAME_EXTENSION;
+        try {
+            return loadGame(Paths.get(DEFAULT_SAVE_DIR, withExtension(filename)));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error loading game: " + e.getMessage());
+            return null;
         }
+    }
 
-        String filepath = DEFAULT_SAVE_DIR + filename;
+    /**
+     * Loads a saved game, telling the formats apart by the binary magic number.
+     */
+    public GameManager loadGame(Path path) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Save file is too large");
+            }
+            data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // Keep reading until the buffer is full
+            }
+            data.flip();
+        }
+        if (BinarySaveFormat.isBinary(data)) {
+            return BinarySaveFormat.decode(data);
+        }
+        return parseTextGame(new BufferedReader(new StringReader(StandardCharsets.UTF_8.decode(data).toString())));
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filepath))) {
+    private GameManager parseTextGame(BufferedReader reader) throws IOException {
+        try {
             String line;
 
             line = reader.readLine();
@@ -83,24 +138,14 @@ public class FileManager {
 
             line = reader.readLine();
             String player0Name = line.split(":")[1];
-
             line = reader.readLine();
             String player1Name = line.split(":")[1];
 
             Player player0 = new Player(player0Name, 0);
             Player player1 = new Player(player1Name, 1);
 
-            GameManager gameManager = new GameManager(player0, player1);
-
+            GameManager gameManager = GameManager.empty(player0, player1);
             Board board = gameManager.getBoard();
-            for (int row = 0; row < board.getRows(); row++) {
-                for (int col = 0; col < board.getCols(); col++) {
-                    board.removePieceAt(new Position(row, col));
-                }
-            }
-
-            player0.getPieces().clear();
-            player1.getPieces().clear();
 
             line = reader.readLine();
 
@@ -112,34 +157,27 @@ public class FileManager {
                     String cellData = cells[col].trim();
 
                     if (!cellData.equals("--")) {
-                        int ownerIndex = Character.getNumericValue(cellData.charAt(1));
-                        char pieceSymbol = cellData.charAt(2);
-
-                        Player owner = (ownerIndex == 0) ? player0 : player1;
-                        Position pos = new Position(row, col);
-
-                        Piece piece = createPieceFromSymbol(pieceSymbol, owner, pos);
-                        board.setPieceAt(pos, piece);
-                        owner.addPiece(piece);
+                        int ownerIndex = cellData.charAt(1) - '0';
+                        int type = PieceFactory.typeOf(cellData.charAt(2));
+                        gameManager.placePiece(ownerIndex, type, row * board.getCols() + col);
                     }
                 }
             }
 
-            reader.readLine();
-
-            line = reader.readLine();
-            int moveCount = Integer.parseInt(line.split(":")[1]);
-
             gameManager.setCurrentPlayerIndex(currentPlayerIndex);
+            gameManager.resetPositionHistory();
 
             return gameManager;
 
-        } catch (IOException | NumberFormatException e) {
-            System.err.println("Error loading game: " + e.getMessage());
-            return null;
+        } catch (NullPointerException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Malformed save file: " + e.getMessage());
         }
     }
 
+    private static String withExtension(String filename) {
+        return filename.endsWith(GAME_EXTENSION) ? filename : filename + GAME_EXTENSION;
+    }
+
     public boolean saveRecord(String filename, GameRecorder gameRecorder) {
         if (!filename.endsWith(RECORD_EXTENSION)) {
             filename += RECORD_EXTENSION;
@@ -148,33 +186,7 @@ public class FileManager {
         String filepath = DEFAULT_RECORD_DIR + filename;
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filepath))) {
-            List<Motions> moves = gameRecorder.getAllMoves();
-
-            writer.write("# Jungle Game Record");
-            writer.newLine();
-            writer.write("# Format: Turn,Player,From,To,Piece,Captured");
-            writer.newLine();
-
-            for (int i = 0; i < moves.size(); i++) {
-                Motions move = moves.get(i);
-
-                StringBuilder line = new StringBuilder();
-                line.append(i + 1).append(",");
-                line.append("P").append(move.getPlayerIndex()).append(",");
-                line.append(positionToString(move.getFrom())).append(",");
-                line.append(positionToString(move.getTo())).append(",");
-                line.append(move.getMovedPiece().getSymbol()).append(",");
-
-                if (move.isCapture()) {
-                    line.append(move.getCapturedPiece().getSymbol());
-                } else {
-                    line.append("-");
-                }
-
-                writer.write(line.toString());
-                writer.newLine();
-            }
-
+            writeRecord(writer, gameRecorder);
             return true;
 
         } catch (IOException e) {
@@ -183,6 +195,42 @@ public class FileManager {
         }
     }
 
+    /**
+     * Writes a game record in the .record format used by saveRecord, for callers that
+     * keep records outside the default record directory.
+     */
+    public void writeRecord(Writer out, GameRecorder gameRecorder) throws IOException {
+        BufferedWriter writer = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out);
+        MoveJournal.View moves = gameRecorder.getMoves();
+
+        writer.write("# Jungle Game Record");
+        writer.newLine();
+        writer.write("# Format: Turn,Player,From,To,Piece,Captured");
+        writer.newLine();
+
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < moves.size(); i++) {
+            int entry = moves.get(i);
+
+            line.setLength(0);
+            line.append(i + 1).append(",");
+            line.append("P").append(MoveJournal.playerOf(entry)).append(",");
+            line.append(positionToString(Position.ofIndex(MoveJournal.fromOf(entry)))).append(",");
+            line.append(positionToString(Position.ofIndex(MoveJournal.toOf(entry)))).append(",");
+            line.append(PieceFactory.symbolOf(MoveJournal.moverTypeOf(entry))).append(",");
+
+            if (MoveJournal.isCapture(entry)) {
+                line.append(PieceFactory.symbolOf(MoveJournal.capturedTypeOf(entry)));
+            } else {
+                line.append("-");
+            }
+
+            writer.write(line.toString());
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
     public List<String> loadRecord(String filename) {
         if (!filename.endsWith(RECORD_EXTENSION)) {
             filename += RECORD_EXTENSION;
@@ -236,20 +284,6 @@ public class FileManager {
         return records;
     }
 
-    private Piece createPieceFromSymbol(char symbol, Player owner, Position pos) {
-        switch (symbol) {
-            case 'E': return new Elephant(owner, pos);
-            case 'L': return new Lion(owner, pos);
-            case 'T': return new Tiger(owner, pos);
-            case 'P': return new Leopard(owner, pos);
-            case 'W': return new Wolf(owner, pos);
-            case 'D': return new Dog(owner, pos);
-            case 'C': return new Cat(owner, pos);
-            case 'R': return new Rat(owner, pos);
-            default: throw new IllegalArgumentException("Unknown piece symbol: " + symbol);
-        }
-    }
-
     private String positionToString(Position pos) {
         char column = (char)('A' + pos.getColumn());
         int row = pos.getRow();
@@ -1,6 +1,12 @@
 package Java.COMP3211_JungleGame.controller;
 
 import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.engine.MonteCarloResult;
+import Java.COMP3211_JungleGame.engine.MonteCarloSearch;
+import Java.COMP3211_JungleGame.engine.OpeningBook;
+import Java.COMP3211_JungleGame.engine.ParallelSearch;
+import Java.COMP3211_JungleGame.engine.SearchLimits;
+import Java.COMP3211_JungleGame.engine.SearchResult;
 import Java.COMP3211_JungleGame.ui.UI;
 
 public class GameController {
@@ -8,11 +14,23 @@ public class GameController {
     private final UI ui;
     private final FileManager fileManager;
     private boolean gameRunning;
+    private ParallelSearch engine;
+    private MonteCarloSearch monteCarlo;
+    private boolean useMonteCarlo;
+    private OpeningBook book;
+    private boolean bookLoaded;
+    // Index of the player moved by the engine, or -1 when both players are human
+    private int computerPlayerIndex;
+    private long computerThinkMillis;
+
+    private static final long DEFAULT_THINK_MILLIS = 2000;
+    private static final String COMPUTER_NAME = "Computer";
 
     public GameController() {
         this.ui = new UI();
         this.fileManager = new FileManager();
         this.gameRunning = false;
+        this.computerPlayerIndex = -1;
     }
 
     public void run() {
@@ -39,6 +57,10 @@ public class GameController {
                     exitProgram = true;
                     ui.displayMessage("Thanks for playing Jungle!");
                     break;
+                case "5":
+                case "computer":
+                    startNewGameAgainstComputer();
+                    break;
                 default:
                     ui.displayError("Invalid choice. Please try again.");
             }
@@ -51,10 +73,44 @@ public class GameController {
         Player player0 = new Player(player0Name, 0);
         Player player1 = new Player(player1Name, 1);
         gameManager = new GameManager(player0, player1);
+        computerPlayerIndex = -1;
         ui.displayMessage("\nGame started! " + player0Name + " vs " + player1Name);
         playGame();
     }
 
+    private void startNewGameAgainstComputer() {
+        String humanName = ui.requestPlayerName(0);
+        String side = ui.requestInput("Play first or second? (1/2): ").trim();
+        int humanIndex = side.equals("2") ? 1 : 0;
+
+        String thinkInput = ui.requestInput("Computer thinking time in seconds (default " +
+                DEFAULT_THINK_MILLIS / 1000 + "): ").trim();
+        computerThinkMillis = DEFAULT_THINK_MILLIS;
+        if (!thinkInput.isEmpty()) {
+            try {
+                computerThinkMillis = Math.max(1, Math.round(Double.parseDouble(thinkInput) * 1000));
+            } catch (NumberFormatException e) {
+                ui.displayError("Invalid time, using " + DEFAULT_THINK_MILLIS / 1000 + " seconds.");
+            }
+        }
+
+        String engineType = ui.requestInput("Computer engine? (1 alpha-beta, 2 Monte Carlo): ").trim();
+        useMonteCarlo = engineType.equals("2");
+
+        Player human = new Player(humanName, humanIndex);
+        Player computer = new Player(COMPUTER_NAME, 1 - humanIndex);
+        gameManager = humanIndex == 0 ? new GameManager(human, computer) : new GameManager(computer, human);
+        computerPlayerIndex = 1 - humanIndex;
+        if (useMonteCarlo && monteCarlo == null) {
+            monteCarlo = new MonteCarloSearch(Runtime.getRuntime().availableProcessors());
+        } else if (!useMonteCarlo && engine == null) {
+            engine = ParallelSearch.fromConfig();
+        }
+        ui.displayMessage("\nGame started! " + gameManager.getPlayer(0).getName() + " vs " +
+                gameManager.getPlayer(1).getName());
+        playGame();
+    }
+
     private void loadGame() {
         java.util.List<String> savedGames = fileManager.listSavedGames();
         if (savedGames.isEmpty()) {
@@ -73,6 +129,7 @@ public class GameController {
         }
 
         gameManager = fileManager.loadGame(filename);
+        computerPlayerIndex = -1;
         if (gameManager != null) {
             ui.displayMessage("Game loaded successfully!");
             playGame();
@@ -127,6 +184,11 @@ public class GameController {
                     gameManager.getGameRecord().getPlayer1UndoCount()
             );
 
+            if (currentPlayerID == computerPlayerIndex) {
+                playComputerTurn();
+                continue;
+            }
+
             // Keep asking for valid command until turn ends
             boolean turnEnded = false;
             while (!turnEnded && gameRunning && !gameManager.isGameOver()) {
@@ -152,6 +214,37 @@ public class GameController {
         gameRunning = false;
     }
 
+    private void playComputerTurn() {
+        ui.displayMessage(gameManager.getCurrentPlayer().getName() + " is thinking...");
+        int move;
+        String details;
+        if (useMonteCarlo) {
+            MonteCarloResult result = monteCarlo.search(gameManager, SearchLimits.time(computerThinkMillis));
+            move = result.getBestMove();
+            details = String.format("%d playouts, %.0f playouts/s, win rate %.2f",
+                    result.getPlayouts(), result.getPlayoutsPerSecond(), result.getWinRate());
+        } else {
+            SearchResult result = engine.search(gameManager, SearchLimits.time(computerThinkMillis));
+            move = result.getBestMove();
+            details = String.format("depth %d, %d nodes, %.0f nodes/s",
+                    result.getDepth(), result.getNodes(), result.getNodesPerSecond());
+        }
+        if (move == Move.NONE) {
+            ui.displayError("Computer has no legal move.");
+            gameRunning = false;
+            return;
+        }
+
+        gameManager.executeMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move)));
+        gameManager.confirmTurn();
+        ui.displayMessage("Computer plays " + Move.toString(move) + " (" + details + ")");
+
+        Piece captured = gameManager.getGameRecord().getLastCapturedPiece();
+        if (captured != null) {
+            ui.displayMessage("Captured " + captured.getName() + "!");
+        }
+    }
+
     private boolean processCommand(String command) {
         command = command.trim().toLowerCase();
 
@@ -164,6 +257,10 @@ public class GameController {
                 saveCurrentGame();
                 return false;
             }
+            case "hint" -> {
+                showHint();
+                return false;
+            }
             case "quit", "exit" -> {
                 String confirm = ui.requestInput("Are you sure you want to quit? (yes/no): ");
                 if (confirm.equalsIgnoreCase("yes") || confirm.equalsIgnoreCase("y")) {
@@ -194,29 +291,24 @@ public class GameController {
     }
 
     private boolean executeMove(Position from, Position to) {
-        try {
-            gameManager.executeMove(from, to);
-            ui.displaySuccess("Move executed successfully!");
-
-            GameRecorder recorder = gameManager.getGameRecord();
-            if (recorder.getMoveCount() > 0) {
-                Motions lastMove = recorder.peekLastMove();
-                if (lastMove != null && lastMove.isCapture()) {
-                    ui.displayMessage("Captured " + lastMove.getCapturedPiece().getName() + "!");
-                }
-            }
-
-            // Show board after move execution
-            ui.displayBoard(gameManager.getBoard(), gameManager.getPlayer(0), gameManager.getPlayer(1));
-
-            // Ask for confirmation/undo
-            return confirmMoveOrUndo();
-
-        } catch (IllegalArgumentException e) {
+        MoveResult result = gameManager.tryExecuteMove(from, to);
+        if (!result.isLegal()) {
             // Invalid move - just show error, no board print
-            ui.displayError(e.getMessage());
+            ui.displayError(gameManager.describeMoveResult(result, from, to));
             return false;
         }
+        ui.displaySuccess("Move executed successfully!");
+
+        Piece captured = gameManager.getGameRecord().getLastCapturedPiece();
+        if (captured != null) {
+            ui.displayMessage("Captured " + captured.getName() + "!");
+        }
+
+        // Show board after move execution
+        ui.displayBoard(gameManager.getBoard(), gameManager.getPlayer(0), gameManager.getPlayer(1));
+
+        // Ask for confirmation/undo
+        return confirmMoveOrUndo();
     }
 
     /**
@@ -254,6 +346,30 @@ public class GameController {
         }
     }
 
+    private void showHint() {
+        if (!bookLoaded) {
+            bookLoaded = true;
+            try {
+                book = OpeningBook.fromConfig();
+            } catch (java.io.IOException e) {
+                ui.displayError("Could not open opening book: " + e.getMessage());
+            }
+        }
+        if (book == null) {
+            ui.displayMessage("No opening book available.");
+            return;
+        }
+        java.util.List<OpeningBook.BookMove> moves = book.lookup(gameManager);
+        if (moves.isEmpty()) {
+            ui.displayMessage("No book moves for this position.");
+            return;
+        }
+        ui.displayMessage("Book moves:");
+        for (OpeningBook.BookMove move : moves) {
+            ui.displayMessage("  " + move);
+        }
+    }
+
     private void saveCurrentGame() {
         String filename = ui.requestInput("Enter filename to save: ");
         if (fileManager.saveGame(filename, gameManager)) {
@@ -287,6 +403,6 @@ public class GameController {
             throw new IllegalArgumentException("Row must be 0-8, got: " + row);
         }
 
-        return new Position(row, column);
+        return Position.of(row, column);
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Describes a computer player for headless play, parsed from a short text form:
+ *
+ *   ab[:depth=N][,time=MS][,nodes=N][,tt=MB]   alpha-beta SearchEngine (default depth 4)
+ *   mcts[:playouts=N][,time=MS]               single-threaded MonteCarloSearch (default 2000 playouts)
+ *   random                                    uniformly random legal moves
+ *
+ * A spec is immutable and can be shared; each thread builds its own MoveChooser from it.
+ */
+public class EngineSpec {
+    private static final int DEFAULT_DEPTH = 4;
+    private static final long DEFAULT_PLAYOUTS = 2000;
+    private static final long DEFAULT_TABLE_MEGABYTES = 16;
+
+    private final String text;
+    private final String kind;
+    private final SearchLimits limits;
+    private final long tableMegabytes;
+
+    private EngineSpec(String text, String kind, SearchLimits limits, long tableMegabytes) {
+        this.text = text;
+        this.kind = kind;
+        this.limits = limits;
+        this.tableMegabytes = tableMegabytes;
+    }
+
+    public static EngineSpec parse(String text) {
+        String trimmed = text.trim().toLowerCase();
+        int colon = trimmed.indexOf(':');
+        String kind = colon < 0 ? trimmed : trimmed.substring(0, colon);
+        Map<String, Long> options = new HashMap<>();
+        if (colon >= 0) {
+            for (String option : trimmed.substring(colon + 1).split(",")) {
+                String[] parts = option.split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Engine option must be key=value, got: " + option);
+                }
+                try {
+                    options.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Engine option " + parts[0] + " must be a number, got: " + parts[1]);
+                }
+            }
+        }
+
+        switch (kind) {
+            case "ab" -> {
+                checkOptions(options, "depth", "time", "nodes", "tt");
+                long time = options.getOrDefault("time", 0L);
+                long nodes = options.getOrDefault("nodes", 0L);
+                int defaultDepth = time > 0 || nodes > 0 ? SearchLimits.MAX_DEPTH : DEFAULT_DEPTH;
+                int depth = options.getOrDefault("depth", (long) defaultDepth).intValue();
+                return new EngineSpec(text, kind, new SearchLimits(depth, time, nodes),
+                        options.getOrDefault("tt", DEFAULT_TABLE_MEGABYTES));
+            }
+            case "mcts" -> {
+                checkOptions(options, "playouts", "time");
+                long time = options.getOrDefault("time", 0L);
+                long playouts = options.getOrDefault("playouts", time > 0 ? 0L : DEFAULT_PLAYOUTS);
+                return new EngineSpec(text, kind, new SearchLimits(SearchLimits.MAX_DEPTH, time, playouts), 0);
+            }
+            case "random" -> {
+                checkOptions(options);
+                return new EngineSpec(text, kind, null, 0);
+            }
+            default -> throw new IllegalArgumentException("Unknown engine: " + kind + " (expected ab, mcts or random)");
+        }
+    }
+
+    private static void checkOptions(Map<String, Long> options, String... allowed) {
+        for (String key : options.keySet()) {
+            boolean known = false;
+            for (String name : allowed) {
+                known |= name.equals(key);
+            }
+            if (!known) {
+                throw new IllegalArgumentException("Unknown engine option: " + key);
+            }
+        }
+    }
+
+    /**
+     * Builds a new, independent player for this spec. The seed drives any randomness.
+     */
+    public MoveChooser create(long seed) {
+        switch (kind) {
+            case "ab": {
+                SearchEngine engine = new SearchEngine(new TranspositionTable(tableMegabytes,
+                        TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED));
+                return game -> engine.search(game, limits).getBestMove();
+            }
+            case "mcts": {
+                MonteCarloSearch search = new MonteCarloSearch(1, seed);
+                return new MoveChooser() {
+                    @Override
+                    public int chooseMove(GameManager game) {
+                        return search.search(game, limits).getBestMove();
+                    }
+
+                    @Override
+                    public void close() {
+                        search.shutdown();
+                    }
+                };
+            }
+            default: {
+                SplittableRandom random = new SplittableRandom(seed);
+                MoveBuffer moves = new MoveBuffer();
+                return game -> {
+                    int count = game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+                    return count == 0 ? Move.NONE : moves.get(random.nextInt(count));
+                };
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * A computer player bound to one thread.
+     */
+    public interface MoveChooser extends AutoCloseable {
+        /**
+         * Returns the move to play in the given position, or Move.NONE if there is none.
+         * The game must not be modified.
+         */
+        int chooseMove(GameManager game);
+
+        @Override
+        default void close() {
+        }
+    }
+}
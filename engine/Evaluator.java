@@ -0,0 +1,186 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Static evaluation: material plus per-type piece-square bonuses for closing in on the
+ * opponent's den, standing on traps and holding the river. Scores are from the point of
+ * view of the side to move.
+ *
+ * Every term depends only on a piece and its square, so the whole evaluation is one table
+ * of (player, type, square) values. The search installs the table on its own copy of the
+ * board ({@link #install}), which keeps the sum up to date as pieces are placed and
+ * removed during make and unmake; evaluating a node is then a single read.
+ *
+ * Weights come from a properties file (see resources/evaluation.properties); keys that
+ * are missing keep their defaults. Weights that could let a side's total reach
+ * {@link #MAX_SIDE_TOTAL} are rejected, so evaluations can never be mistaken for win
+ * scores or overflow the transposition table's 16-bit score field.
+ */
+public class Evaluator {
+    private static final String PATH_PROPERTY = "jungle.eval.path";
+    private static final String DEFAULT_PATH = "resources/evaluation.properties";
+    private static final String[] ANIMALS = {"rat", "cat", "dog", "wolf", "leopard", "tiger", "lion", "elephant"};
+    private static final int MAX_DISTANCE = 14;
+    // Two sides' worth stays below SearchEngine's win threshold (WIN_SCORE - MAX_PLY)
+    public static final int MAX_SIDE_TOTAL = 14000;
+
+    private final int[] pieceValues = new int[Piece.TYPE_COUNT];
+    private final int[] table;
+
+    /**
+     * Evaluator with the default weights.
+     */
+    public Evaluator() {
+        this(new Properties());
+    }
+
+    public Evaluator(Properties weights) {
+        int rankValue = weight(weights, "material.rank", 100);
+        int jumperBonus = weight(weights, "material.jumper", 200);
+        // Rat is worth more than its rank because it is the only threat to the Elephant
+        int ratValue = weight(weights, "material.rat", 500);
+        int elephantValue = weight(weights, "material.elephant", 1000);
+        int denProximity = weight(weights, "den.proximity", 10);
+        int trapAttack = weight(weights, "trap.attack", 30);
+        int trapDefend = weight(weights, "trap.defend", 15);
+        int ratInWater = weight(weights, "water.rat", 20);
+        int jumperOnBank = weight(weights, "bank.jumper", 15);
+
+        Board board = new Board();
+        int squares = Board.getSquareCount();
+        table = new int[2 * Piece.TYPE_COUNT * squares];
+        for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+            Piece piece = PieceFactory.create(type, null, null);
+            int value = piece.getRank() * rankValue;
+            if (piece.canJumpWater()) {
+                value += jumperBonus;
+            }
+            if (type == Piece.RAT) {
+                value = ratValue;
+            } else if (type == Piece.ELEPHANT) {
+                value = elephantValue;
+            }
+            pieceValues[type] = value;
+            int typeDenProximity = weight(weights, "den." + ANIMALS[type], denProximity);
+
+            for (int player = 0; player < 2; player++) {
+                Position opponentDen = board.getDenPosition(1 - player);
+                for (int square = 0; square < squares; square++) {
+                    long bit = 1L << square;
+                    int score = value + (MAX_DISTANCE - Position.ofIndex(square).distanceTo(opponentDen)) * typeDenProximity;
+                    if ((Board.getTrapMask(1 - player) & bit) != 0) {
+                        score += trapAttack;
+                    }
+                    if ((Board.getTrapMask(player) & bit) != 0) {
+                        score += trapDefend;
+                    }
+                    boolean water = (Board.getWaterMask() & bit) != 0;
+                    if (water && piece.canEnterWater()) {
+                        score += ratInWater;
+                    }
+                    if (!water && piece.canJumpWater() && RiverJumps.landingCount(square) > 0) {
+                        score += jumperOnBank;
+                    }
+                    table[Board.scoreIndex(player, type, square)] = player == 0 ? score : -score;
+                }
+            }
+        }
+
+        // A side has at most one piece of each type
+        long sideTotal = 0;
+        for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+            int largest = 0;
+            for (int square = 0; square < squares; square++) {
+                largest = Math.max(largest, Math.abs(table[Board.scoreIndex(0, type, square)]));
+            }
+            sideTotal += largest;
+        }
+        if (sideTotal >= MAX_SIDE_TOTAL) {
+            throw new IllegalArgumentException("Evaluation weights allow a side total of " + sideTotal
+                    + ", must stay below " + MAX_SIDE_TOTAL);
+        }
+    }
+
+    /**
+     * Loads weights from a properties file.
+     */
+    public static Evaluator load(Path path) throws IOException {
+        Properties weights = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            weights.load(reader);
+        }
+        return new Evaluator(weights);
+    }
+
+    /**
+     * Loads the weights named by the jungle.eval.path system property (default
+     * resources/evaluation.properties), falling back to the defaults when the file is missing.
+     */
+    public static Evaluator fromConfig() throws IOException {
+        Path path = Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_PATH));
+        return Files.exists(path) ? load(path) : new Evaluator();
+    }
+
+    /**
+     * Installs this evaluator's table on the board, so its score is kept up to date from
+     * then on. Scans the board once unless the table is already installed.
+     */
+    public void install(Board board) {
+        if (board.getScoreTable() != table) {
+            board.setScoreTable(table);
+        }
+    }
+
+    /**
+     * Score for the side to move. A single read when the table is installed on the board;
+     * otherwise the board is summed without being changed.
+     */
+    public int evaluate(GameManager game) {
+        Board board = game.getBoard();
+        int score;
+        if (board.getScoreTable() == table) {
+            score = board.getScore();
+        } else {
+            score = 0;
+            long pieces = board.getOccupancy();
+            while (pieces != 0) {
+                int square = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+                Piece piece = board.getPieceAt(square);
+                score += table[Board.scoreIndex(piece.getOwner().getPlayerId(), piece.getTypeIndex(), square)];
+            }
+        }
+        return game.getCurrentPlayerIndex() == 0 ? score : -score;
+    }
+
+    public int pieceValue(int type) {
+        return pieceValues[type];
+    }
+
+    /**
+     * The piece-square value of a player 0 piece, including material.
+     */
+    public int squareValue(int type, int square) {
+        return table[Board.scoreIndex(0, type, square)];
+    }
+
+    private static int weight(Properties weights, String key, int defaultValue) {
+        String value = weights.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Weight " + key + " is not a number: " + value);
+        }
+    }
+}
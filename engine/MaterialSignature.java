@@ -0,0 +1,217 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+/**
+ * The set of piece types each player has, e.g. "RE-L" for Rat and Elephant against a
+ * Lion, with player 0's pieces before the dash.
+ *
+ * A signature fixes the slot order used to index tablebase positions: player 0's pieces
+ * by type, then player 1's. The index of a position is
+ *   ((half(s0) * 63 + s1) * 63 + s2 ...) * 2 + sideToMove
+ * where s0 is the first slot's square. The board is symmetric under a left-right mirror,
+ * so the position is mirrored whenever s0 is right of the centre column, and half() only
+ * numbers the 36 squares in columns 0 to 3.
+ *
+ * The board is also symmetric under swapping the players while flipping rows, so only
+ * one of "A-B" and "B-A" is stored: the canonical one, where player 0 has more pieces,
+ * or the same count and the higher type mask.
+ */
+public final class MaterialSignature {
+    private static final int ROWS = 9;
+    private static final int COLS = 7;
+    private static final int SQUARES = ROWS * COLS;
+    private static final int HALF_COLS = 4;
+    static final int HALF_SQUARES = ROWS * HALF_COLS;
+
+    private final int mask0;
+    private final int mask1;
+    private final int[] slotOwners;
+    private final int[] slotTypes;
+    private final long positionCount;
+
+    public MaterialSignature(int mask0, int mask1) {
+        if (mask0 <= 0 || mask1 <= 0 || mask0 > 0xFF || mask1 > 0xFF) {
+            throw new IllegalArgumentException("Both players need at least one piece");
+        }
+        this.mask0 = mask0;
+        this.mask1 = mask1;
+        int count = Integer.bitCount(mask0) + Integer.bitCount(mask1);
+        this.slotOwners = new int[count];
+        this.slotTypes = new int[count];
+        int slot = 0;
+        for (int player = 0; player < 2; player++) {
+            int mask = player == 0 ? mask0 : mask1;
+            for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+                if ((mask & (1 << type)) != 0) {
+                    slotOwners[slot] = player;
+                    slotTypes[slot] = type;
+                    slot++;
+                }
+            }
+        }
+        long positions = HALF_SQUARES * 2L;
+        for (int i = 1; i < count; i++) {
+            positions *= SQUARES;
+        }
+        this.positionCount = positions;
+    }
+
+    /**
+     * Parses the toString form; piece order within a side does not matter.
+     */
+    public static MaterialSignature parse(String text) {
+        String[] sides = text.trim().toUpperCase().split("-");
+        if (sides.length != 2) {
+            throw new IllegalArgumentException("Signature must look like RE-L, got: " + text);
+        }
+        return new MaterialSignature(parseSide(sides[0]), parseSide(sides[1]));
+    }
+
+    private static int parseSide(String side) {
+        int mask = 0;
+        for (char symbol : side.toCharArray()) {
+            int bit = 1 << PieceFactory.typeOf(symbol);
+            if ((mask & bit) != 0) {
+                throw new IllegalArgumentException("Each player has only one " + symbol);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Signature of the pieces on the board, or null if a player has none.
+     */
+    public static MaterialSignature of(Board board) {
+        int mask0 = sideMask(board, 0);
+        int mask1 = sideMask(board, 1);
+        return mask0 == 0 || mask1 == 0 ? null : new MaterialSignature(mask0, mask1);
+    }
+
+    static int sideMask(Board board, int player) {
+        int mask = 0;
+        for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+            if (board.getPieceMask(player, type) != 0) {
+                mask |= 1 << type;
+            }
+        }
+        return mask;
+    }
+
+    public boolean isCanonical() {
+        int count0 = Integer.bitCount(mask0);
+        int count1 = Integer.bitCount(mask1);
+        return count0 > count1 || (count0 == count1 && mask0 >= mask1);
+    }
+
+    /**
+     * The same material with the players swapped.
+     */
+    public MaterialSignature flipped() {
+        return new MaterialSignature(mask1, mask0);
+    }
+
+    public MaterialSignature canonical() {
+        return isCanonical() ? this : flipped();
+    }
+
+    public int getMask(int player) {
+        return player == 0 ? mask0 : mask1;
+    }
+
+    public int getPieceCount() {
+        return slotTypes.length;
+    }
+
+    public int getSlotOwner(int slot) {
+        return slotOwners[slot];
+    }
+
+    public int getSlotType(int slot) {
+        return slotTypes[slot];
+    }
+
+    public long getPositionCount() {
+        return positionCount;
+    }
+
+    /**
+     * Key for hash lookups: both masks in one int.
+     */
+    int key() {
+        return key(mask0, mask1);
+    }
+
+    static int key(int mask0, int mask1) {
+        return (mask0 << 8) | mask1;
+    }
+
+    /**
+     * Index of the position with each slot on the given square. Mirrors the squares in
+     * place when the first slot is right of centre.
+     */
+    long index(int[] squares, int sideToMove) {
+        if (squares[0] % COLS >= HALF_COLS) {
+            for (int i = 0; i < squares.length; i++) {
+                squares[i] = mirror(squares[i]);
+            }
+        }
+        long index = (squares[0] / COLS) * HALF_COLS + squares[0] % COLS;
+        for (int i = 1; i < squares.length; i++) {
+            index = index * SQUARES + squares[i];
+        }
+        return index * 2 + sideToMove;
+    }
+
+    /**
+     * Inverse of index: fills squares and returns the side to move.
+     */
+    int decode(long index, int[] squares) {
+        int sideToMove = (int) (index & 1);
+        index >>>= 1;
+        for (int i = squares.length - 1; i > 0; i--) {
+            squares[i] = (int) (index % SQUARES);
+            index /= SQUARES;
+        }
+        int half = (int) index;
+        squares[0] = (half / HALF_COLS) * COLS + half % HALF_COLS;
+        return sideToMove;
+    }
+
+    static int mirror(int square) {
+        return square - square % COLS + (COLS - 1 - square % COLS);
+    }
+
+    static int flipRows(int square) {
+        return (ROWS - 1 - square / COLS) * COLS + square % COLS;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MaterialSignature other = (MaterialSignature) obj;
+        return mask0 == other.mask0 && mask1 == other.mask1;
+    }
+
+    @Override
+    public int hashCode() {
+        return key();
+    }
+
+    @Override
+    public String toString() {
+        return sideString(mask0) + "-" + sideString(mask1);
+    }
+
+    private static String sideString(int mask) {
+        StringBuilder side = new StringBuilder();
+        for (int type = 0; type < Piece.TYPE_COUNT; type++) {
+            if ((mask & (1 << type)) != 0) {
+                side.append(PieceFactory.symbolOf(type));
+            }
+        }
+        return side.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.Move;
+
+/**
+ * Outcome of a MonteCarloSearch: visit counts and mean scores for every root move,
+ * plus playout throughput. The best move is the most visited one.
+ */
+public class MonteCarloResult {
+    private final int[] moves;
+    private final int[] visits;
+    private final double[] values;
+    private final long playouts;
+    private final int maxDepth;
+    private final long elapsedNanos;
+    private final int bestIndex;
+
+    public MonteCarloResult(int[] moves, int[] visits, double[] values, long playouts, int maxDepth,
+                            long elapsedNanos) {
+        this.moves = moves.clone();
+        this.visits = visits.clone();
+        this.values = values.clone();
+        this.playouts = playouts;
+        this.maxDepth = maxDepth;
+        this.elapsedNanos = elapsedNanos;
+        int best = -1;
+        for (int i = 0; i < visits.length; i++) {
+            if (best < 0 || visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        this.bestIndex = best;
+    }
+
+    public int getBestMove() {
+        return bestIndex < 0 ? Move.NONE : moves[bestIndex];
+    }
+
+    public boolean hasMove() {
+        return bestIndex >= 0;
+    }
+
+    /**
+     * Mean playout score of the best move for the side to move, from 0 (always lost)
+     * to 1 (always won), with draws counting half.
+     */
+    public double getWinRate() {
+        return bestIndex < 0 ? 0 : values[bestIndex];
+    }
+
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    public double getPlayoutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : playouts * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Deepest tree level reached by selection.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getRootMoveCount() {
+        return moves.length;
+    }
+
+    public int getRootMove(int index) {
+        return moves[index];
+    }
+
+    public int getRootVisits(int index) {
+        return visits[index];
+    }
+
+    public double getRootValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("move %s win rate %.3f playouts %d time %d ms playouts/s %.0f depth %d",
+                hasMove() ? Move.toString(getBestMove()) : "none", getWinRate(), playouts,
+                elapsedNanos / 1_000_000, getPlayoutsPerSecond(), maxDepth);
+    }
+}
@@ -0,0 +1,329 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo tree search with UCT selection, run tree-parallel on a fork-join pool.
+ *
+ * Every worker walks the shared tree on its own copy of the game, using makeMove and
+ * unmakeMove only, so playouts never reach the GameRecorder or the UI. A worker adds a
+ * virtual loss to each node it passes on the way down and removes it during
+ * backpropagation, which steers the other workers to different branches in the meantime.
+ *
+ * Playouts are lightly guided: a den entry is always taken, a capture is preferred
+ * when one exists, and otherwise the move is uniformly random. A playout that runs past
+ * MAX_PLAYOUT_PLIES, or reaches a side with no legal move, counts as a draw.
+ *
+ * Limits come from SearchLimits: the time budget and the node limit, which is read as a
+ * playout count. The depth limit is not used.
+ */
+public class MonteCarloSearch {
+    private static final int MAX_PLAYOUT_PLIES = 200;
+    private static final int MAX_TREE_DEPTH = 128;
+    private static final int VIRTUAL_LOSS = 1;
+    private static final double EXPLORATION = 1.4;
+    private static final double CAPTURE_BIAS = 0.5;
+    private static final double UNVISITED_VALUE = 1e9;
+    private static final long DEFAULT_PLAYOUTS = 100_000;
+
+    // Results are stored in half points so a draw is a whole number
+    private static final int WIN = 2;
+    private static final int DRAW = 1;
+
+    private final int threads;
+    private final ForkJoinPool pool;
+    private final long seed;
+    private volatile boolean stopRequested;
+
+    public MonteCarloSearch(int threads) {
+        this(threads, System.nanoTime());
+    }
+
+    /**
+     * Uses a fixed random seed, so a single-threaded search with a playout limit is
+     * repeatable.
+     */
+    public MonteCarloSearch(int threads, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, got: " + threads);
+        }
+        this.threads = threads;
+        this.pool = new ForkJoinPool(threads);
+        this.seed = seed;
+    }
+
+    /**
+     * Searches a copy of the position. Without a time or node limit the search stops after
+     * DEFAULT_PLAYOUTS playouts.
+     */
+    public MonteCarloResult search(GameManager position, SearchLimits limits) {
+        long start = System.nanoTime();
+        long deadline = limits.getTimeMillis() > 0 ? start + limits.getTimeMillis() * 1_000_000 : 0;
+        long maxPlayouts = limits.getMaxNodes() > 0 ? limits.getMaxNodes()
+                : deadline > 0 ? Long.MAX_VALUE : DEFAULT_PLAYOUTS;
+
+        Node root = new Node(Move.NONE, null);
+        AtomicLong playouts = new AtomicLong();
+        AtomicInteger maxDepth = new AtomicInteger();
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Worker(position.copy(), root, seeds.split(), playouts, maxPlayouts, deadline, maxDepth));
+        }
+        for (Worker worker : workers) {
+            pool.execute(worker);
+        }
+        for (Worker worker : workers) {
+            worker.join();
+        }
+        return buildResult(root, playouts.get(), maxDepth.get(), System.nanoTime() - start);
+    }
+
+    /**
+     * Asks a running search to finish; it returns the statistics gathered so far. A stop
+     * that arrives before the search starts is kept, so the search ends straight away.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Clears an earlier stop. Call it on the controlling thread before starting a search
+     * that may be stopped from that thread, so a stop sent right after the start is not lost.
+     */
+    public void resetStop() {
+        stopRequested = false;
+    }
+
+    /**
+     * Releases the worker threads. The search cannot be used afterwards.
+     */
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public int getThreadCount() {
+        return threads;
+    }
+
+    private static MonteCarloResult buildResult(Node root, long playouts, int maxDepth, long elapsedNanos) {
+        Node[] children = root.children;
+        if (children == null) {
+            return new MonteCarloResult(new int[0], new int[0], new double[0], playouts, maxDepth, elapsedNanos);
+        }
+        int[] moves = new int[children.length];
+        int[] visits = new int[children.length];
+        double[] values = new double[children.length];
+        for (int i = 0; i < children.length; i++) {
+            moves[i] = children[i].move;
+            visits[i] = children[i].visits.get();
+            values[i] = visits[i] == 0 ? 0 : children[i].score.get() / (double) (WIN * visits[i]);
+        }
+        return new MonteCarloResult(moves, visits, values, playouts, maxDepth, elapsedNanos);
+    }
+
+    /**
+     * A tree node for the position reached by playing {@code move}. Scores are from the
+     * point of view of the player who played that move.
+     */
+    private static final class Node {
+        final int move;
+        final Node parent;
+        final AtomicInteger visits = new AtomicInteger();
+        final AtomicLong score = new AtomicLong();
+        volatile Node[] children;
+
+        Node(int move, Node parent) {
+            this.move = move;
+            this.parent = parent;
+        }
+    }
+
+    private final class Worker extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GameManager game;
+        private final Node root;
+        private final SplittableRandom random;
+        private final AtomicLong playouts;
+        private final long maxPlayouts;
+        private final long deadline;
+        private final AtomicInteger maxDepth;
+        private final MoveBuffer moves = new MoveBuffer();
+        private final MoveBuffer preferred = new MoveBuffer();
+        private final int[] pathMoves = new int[MAX_TREE_DEPTH];
+        private final int[] pathTokens = new int[MAX_TREE_DEPTH];
+        private final int[] playoutMoves = new int[MAX_PLAYOUT_PLIES];
+        private final int[] playoutTokens = new int[MAX_PLAYOUT_PLIES];
+
+        Worker(GameManager game, Node root, SplittableRandom random, AtomicLong playouts,
+               long maxPlayouts, long deadline, AtomicInteger maxDepth) {
+            this.game = game;
+            this.root = root;
+            this.random = random;
+            this.playouts = playouts;
+            this.maxPlayouts = maxPlayouts;
+            this.deadline = deadline;
+            this.maxDepth = maxDepth;
+        }
+
+        @Override
+        protected void compute() {
+            if (game.isGameOver()) {
+                return;
+            }
+            while (!stopRequested && (deadline == 0 || System.nanoTime() < deadline)) {
+                if (playouts.incrementAndGet() > maxPlayouts) {
+                    playouts.decrementAndGet();
+                    break;
+                }
+                runIteration();
+            }
+        }
+
+        private void runIteration() {
+            Node node = root;
+            int depth = 0;
+            node.visits.addAndGet(VIRTUAL_LOSS);
+
+            // Selection: descend while the node is expanded and the game goes on
+            while (!game.isGameOver() && depth < MAX_TREE_DEPTH) {
+                Node[] children = node.children;
+                if (children == null) {
+                    children = expand(node);
+                    if (children.length == 0) {
+                        break;
+                    }
+                    node = children[random.nextInt(children.length)];
+                } else if (children.length == 0) {
+                    break;
+                } else {
+                    node = select(node, children);
+                }
+                node.visits.addAndGet(VIRTUAL_LOSS);
+                pathMoves[depth] = node.move;
+                pathTokens[depth] = game.makeMove(node.move);
+                depth++;
+                if (node.visits.get() <= VIRTUAL_LOSS) {
+                    // First visit: evaluate this node with a playout
+                    break;
+                }
+            }
+            maxDepth.accumulateAndGet(depth, Math::max);
+
+            int winner = playout();
+
+            // Backpropagation, replacing each virtual loss with the real result
+            for (Node current = node; current != root; current = current.parent) {
+                current.visits.addAndGet(1 - VIRTUAL_LOSS);
+                depth--;
+                game.unmakeMove(pathMoves[depth], pathTokens[depth]);
+                // After the unmake, the side to move is the player who made current.move
+                if (winner == -1) {
+                    current.score.addAndGet(DRAW);
+                } else if (winner == game.getCurrentPlayerIndex()) {
+                    current.score.addAndGet(WIN);
+                }
+            }
+            root.visits.addAndGet(1 - VIRTUAL_LOSS);
+        }
+
+        private Node[] expand(Node node) {
+            synchronized (node) {
+                if (node.children == null) {
+                    game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+                    Node[] children = new Node[moves.size()];
+                    for (int i = 0; i < children.length; i++) {
+                        children[i] = new Node(moves.get(i), node);
+                    }
+                    node.children = children;
+                }
+                return node.children;
+            }
+        }
+
+        /**
+         * UCT: the child with the best mean score plus exploration bonus. Unvisited
+         * children come first; virtual losses count as visits with no score.
+         */
+        private Node select(Node parent, Node[] children) {
+            double logParent = Math.log(Math.max(parent.visits.get(), 1));
+            Node best = children[0];
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                int visits = child.visits.get();
+                double value;
+                if (visits == 0) {
+                    // Above any UCT value, with a random tie-break between unvisited children
+                    value = UNVISITED_VALUE + random.nextDouble();
+                } else {
+                    value = child.score.get() / (double) (WIN * visits)
+                            + EXPLORATION * Math.sqrt(logParent / visits);
+                }
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Plays to the end of the game from the current position and takes the moves back.
+         * Returns the winner's index, or -1 for a draw.
+         */
+        private int playout() {
+            int length = 0;
+            while (!game.isGameOver() && length < MAX_PLAYOUT_PLIES) {
+                int move = chooseMove();
+                if (move == Move.NONE) {
+                    break;
+                }
+                playoutMoves[length] = move;
+                playoutTokens[length] = game.makeMove(move);
+                length++;
+            }
+            Player winnerPlayer = game.getWinner();
+            int winner = game.isGameOver() && winnerPlayer != null ? winnerPlayer.getPlayerId() : -1;
+            while (length > 0) {
+                length--;
+                game.unmakeMove(playoutMoves[length], playoutTokens[length]);
+            }
+            return winner;
+        }
+
+        private int chooseMove() {
+            int player = game.getCurrentPlayerIndex();
+            int count = game.generateLegalMoves(player, moves);
+            if (count == 0) {
+                return Move.NONE;
+            }
+            Board board = game.getBoard();
+            long opponentDen = Board.getDenMask(1 - player);
+            long opponentPieces = board.getOccupancy(1 - player);
+            preferred.clear();
+            for (int i = 0; i < count; i++) {
+                int move = moves.get(i);
+                long target = 1L << Move.getTo(move);
+                if ((target & opponentDen) != 0) {
+                    return move;
+                }
+                if ((target & opponentPieces) != 0) {
+                    preferred.add(move);
+                }
+            }
+            if (!preferred.isEmpty() && random.nextDouble() < CAPTURE_BIAS) {
+                return preferred.get(random.nextInt(preferred.size()));
+            }
+            return moves.get(random.nextInt(count));
+        }
+    }
+}
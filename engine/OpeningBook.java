@@ -0,0 +1,167 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only opening book: move statistics per position, looked up by binary search over
+ * a memory-mapped file, so nothing but the header is loaded onto the heap.
+ *
+ * File layout (big-endian): magic "JBK1", version, entry count, then fixed-size entries
+ * of position hash (long), move (int), times played (int) and wins for the player who
+ * made the move (int). Entries are sorted by hash, and within a hash by times played,
+ * most played first. OpeningBookBuilder writes the file.
+ */
+public class OpeningBook {
+    public static final String EXTENSION = ".book";
+
+    static final int MAGIC = 0x4A424B31;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 12;
+    static final int ENTRY_BYTES = 20;
+
+    private static final String PATH_PROPERTY = "jungle.book.path";
+    private static final String DEFAULT_PATH = "resources/book/jungle.book";
+
+    private final MappedByteBuffer entries;
+    private final int entryCount;
+
+    private OpeningBook(MappedByteBuffer entries, int entryCount) {
+        this.entries = entries;
+        this.entryCount = entryCount;
+    }
+
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Book file too large to map: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (channel.size() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not an opening book: " + path);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported book version " + buffer.getInt(4) + ": " + path);
+            }
+            int count = buffer.getInt(8);
+            if (HEADER_BYTES + (long) count * ENTRY_BYTES > channel.size()) {
+                throw new IOException("Book file is truncated: " + path);
+            }
+            return new OpeningBook(buffer, count);
+        }
+    }
+
+    /**
+     * Opens the book named by the jungle.book.path system property
+     * (default resources/book/jungle.book), or returns null if there is no such file.
+     */
+    public static OpeningBook fromConfig() throws IOException {
+        Path path = Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_PATH));
+        return Files.isRegularFile(path) ? open(path) : null;
+    }
+
+    /**
+     * Book moves for the position, most played first. Moves that are not legal in the
+     * position (a hash collision) are left out.
+     */
+    public List<BookMove> lookup(GameManager game) {
+        List<BookMove> moves = new ArrayList<>();
+        if (game.isGameOver()) {
+            return moves;
+        }
+        long hash = game.getPositionHash();
+        for (int i = firstEntry(hash); i < entryCount && hashAt(i) == hash; i++) {
+            int offset = HEADER_BYTES + i * ENTRY_BYTES;
+            int move = entries.getInt(offset + 8);
+            Position from = Position.ofIndex(Move.getFrom(move));
+            Position to = Position.ofIndex(Move.getTo(move));
+            if (game.checkMove(from, to).isLegal()) {
+                moves.add(new BookMove(move, entries.getInt(offset + 12), entries.getInt(offset + 16)));
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * The most played legal book move with at least minCount games, or Move.NONE.
+     */
+    public int bestMove(GameManager game, int minCount) {
+        List<BookMove> moves = lookup(game);
+        if (moves.isEmpty() || moves.get(0).getCount() < minCount) {
+            return Move.NONE;
+        }
+        return moves.get(0).getMove();
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    private long hashAt(int index) {
+        return entries.getLong(HEADER_BYTES + index * ENTRY_BYTES);
+    }
+
+    /**
+     * Index of the first entry with the hash or a larger one.
+     */
+    private int firstEntry(long hash) {
+        int low = 0;
+        int high = entryCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hashAt(mid) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * One move from the book with how often it was played and won.
+     */
+    public static class BookMove {
+        private final int move;
+        private final int count;
+        private final int wins;
+
+        public BookMove(int move, int count, int wins) {
+            this.move = move;
+            this.count = count;
+            this.wins = wins;
+        }
+
+        public int getMove() {
+            return move;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getWins() {
+            return wins;
+        }
+
+        public double getWinRate() {
+            return count == 0 ? 0 : wins / (double) count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%d games, %.0f%% won)", Move.toString(move), count, getWinRate() * 100);
+        }
+    }
+}
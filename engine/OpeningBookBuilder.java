@@ -0,0 +1,187 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds an OpeningBook from .record files by replaying each game from the start.
+ *
+ * The first maxPly moves of every game are counted per position hash and move. A move
+ * counts as won when the game ends with a win for the player who made it; unfinished
+ * games count as played but not won. A record stops being read at its first illegal
+ * or malformed move.
+ *
+ * Usage: OpeningBookBuilder [recordDir] [--out file] [--max-ply N] [--min-count N]
+ */
+public class OpeningBookBuilder {
+    public static final int DEFAULT_MAX_PLY = 20;
+
+    private final int maxPly;
+    private final Map<Long, Map<Integer, int[]>> stats = new HashMap<>();
+    private int games;
+    private int rejectedGames;
+
+    public OpeningBookBuilder(int maxPly) {
+        this.maxPly = maxPly;
+    }
+
+    /**
+     * Adds every .record file in the directory.
+     */
+    public void addDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.record")) {
+            for (Path file : files) {
+                addRecord(file);
+            }
+        }
+    }
+
+    public void addRecord(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("#") && !line.trim().isEmpty()) {
+                    lines.add(line);
+                }
+            }
+            addGame(lines);
+        }
+    }
+
+    /**
+     * Adds one game given as record lines (Turn,Player,From,To,Piece,Captured).
+     */
+    public void addGame(List<String> recordLines) {
+        GameManager game = new GameManager(new Player("Player 0", 0), new Player("Player 1", 1));
+        int bookPlies = 0;
+        long[] hashes = new long[maxPly];
+        int[] moves = new int[maxPly];
+        int[] movers = new int[maxPly];
+        boolean complete = true;
+        for (String line : recordLines) {
+            String[] fields = line.split(",");
+            int move;
+            try {
+                move = fields.length < 4 ? Move.NONE : Move.parse(fields[2] + fields[3]);
+            } catch (IllegalArgumentException e) {
+                move = Move.NONE;
+            }
+            if (move == Move.NONE || game.isGameOver()) {
+                complete = false;
+                break;
+            }
+            long hash = game.getPositionHash();
+            int mover = game.getCurrentPlayerIndex();
+            MoveResult result = game.tryExecuteMove(Position.ofIndex(Move.getFrom(move)),
+                    Position.ofIndex(Move.getTo(move)));
+            if (!result.isLegal()) {
+                complete = false;
+                break;
+            }
+            game.confirmTurn();
+            if (bookPlies < maxPly) {
+                hashes[bookPlies] = hash;
+                moves[bookPlies] = move;
+                movers[bookPlies] = mover;
+                bookPlies++;
+            }
+        }
+        if (!complete) {
+            rejectedGames++;
+        }
+        games++;
+
+        int winner = game.isGameOver() && game.getWinner() != null ? game.getWinner().getPlayerId() : -1;
+        for (int i = 0; i < bookPlies; i++) {
+            int[] counts = stats.computeIfAbsent(hashes[i], key -> new HashMap<>())
+                    .computeIfAbsent(moves[i], key -> new int[2]);
+            counts[0]++;
+            if (movers[i] == winner) {
+                counts[1]++;
+            }
+        }
+    }
+
+    /**
+     * Writes the book, leaving out moves played fewer than minCount times.
+     * Returns the number of entries written.
+     */
+    public int write(Path path, int minCount) throws IOException {
+        List<long[]> entries = new ArrayList<>();
+        for (Map.Entry<Long, Map<Integer, int[]>> position : stats.entrySet()) {
+            for (Map.Entry<Integer, int[]> move : position.getValue().entrySet()) {
+                int[] counts = move.getValue();
+                if (counts[0] >= minCount) {
+                    entries.add(new long[]{position.getKey(), move.getKey(), counts[0], counts[1]});
+                }
+            }
+        }
+        entries.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0])
+                : a[2] != b[2] ? Long.compare(b[2], a[2]) : Long.compare(a[1], b[1]));
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(OpeningBook.MAGIC);
+            out.writeInt(OpeningBook.VERSION);
+            out.writeInt(entries.size());
+            for (long[] entry : entries) {
+                out.writeLong(entry[0]);
+                out.writeInt((int) entry[1]);
+                out.writeInt((int) entry[2]);
+                out.writeInt((int) entry[3]);
+            }
+        }
+        return entries.size();
+    }
+
+    public int getGameCount() {
+        return games;
+    }
+
+    /**
+     * Games that stopped early at an illegal or malformed move.
+     */
+    public int getRejectedGameCount() {
+        return rejectedGames;
+    }
+
+    public int getPositionCount() {
+        return stats.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path recordDir = Paths.get("resources/records");
+        Path out = Paths.get("resources/book/jungle" + OpeningBook.EXTENSION);
+        int maxPly = DEFAULT_MAX_PLY;
+        int minCount = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--out" -> out = Paths.get(args[++i]);
+                case "--max-ply" -> maxPly = Integer.parseInt(args[++i]);
+                case "--min-count" -> minCount = Integer.parseInt(args[++i]);
+                default -> recordDir = Paths.get(args[i]);
+            }
+        }
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(maxPly);
+        builder.addDirectory(recordDir);
+        int written = builder.write(out, minCount);
+        System.out.printf("%d games (%d stopped early), %d positions, %d entries written to %s%n",
+                builder.getGameCount(), builder.getRejectedGameCount(), builder.getPositionCount(), written, out);
+    }
+}
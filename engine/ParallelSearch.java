@@ -0,0 +1,277 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.controller.FileManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lazy SMP: several SearchEngine workers search the same root at once, sharing only the
+ * transposition table.
+ *
+ * Each worker searches its own copy of the game. The workers do not split the tree;
+ * they help each other through the table, and odd-numbered helpers run one ply ahead of
+ * the main worker so the threads fill different depths. The main worker (0) owns the
+ * time budget: when it finishes, the helpers are stopped and the deepest completed
+ * result is returned, preferring the main worker's on a tie. The node limit applies to
+ * each worker separately.
+ *
+ * With one thread the search runs on the calling thread.
+ *
+ * Usage: ParallelSearch depth [saveName] [--threads 1,2,4,8]
+ */
+public class ParallelSearch {
+    private static final String THREADS_PROPERTY = "jungle.search.threads";
+
+    private final TranspositionTable table;
+    private final SearchEngine[] workers;
+    private final ExecutorService executor;
+    private OpeningBook book;
+
+    public ParallelSearch(TranspositionTable table, int threads) {
+        this(table, threads, new Evaluator());
+    }
+
+    /**
+     * The evaluator is shared by all workers; it holds no per-search state.
+     */
+    public ParallelSearch(TranspositionTable table, int threads, Evaluator evaluator) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, got: " + threads);
+        }
+        this.table = table;
+        this.workers = new SearchEngine[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new SearchEngine(table, evaluator);
+        }
+        this.executor = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Builds a search with the thread count from the jungle.search.threads system property
+     * (default 1) over a table configured by TranspositionTable.fromConfig(), with the
+     * weights from Evaluator.fromConfig(), any tablebases from Tablebases.fromConfig() and
+     * the book from OpeningBook.fromConfig().
+     */
+    public static ParallelSearch fromConfig() {
+        Evaluator evaluator;
+        try {
+            evaluator = Evaluator.fromConfig();
+        } catch (IOException e) {
+            System.err.println("Evaluation weights not loaded: " + e.getMessage());
+            evaluator = new Evaluator();
+        }
+        ParallelSearch search = new ParallelSearch(TranspositionTable.fromConfig(),
+                Integer.getInteger(THREADS_PROPERTY, 1), evaluator);
+        try {
+            Tablebases tablebases = Tablebases.fromConfig();
+            if (!tablebases.isEmpty()) {
+                search.setTablebases(tablebases);
+            }
+        } catch (IOException e) {
+            System.err.println("Tablebases not loaded: " + e.getMessage());
+        }
+        try {
+            search.setOpeningBook(OpeningBook.fromConfig());
+        } catch (IOException e) {
+            System.err.println("Opening book not loaded: " + e.getMessage());
+        }
+        return search;
+    }
+
+    public void setOpeningBook(OpeningBook book) {
+        this.book = book;
+        workers[0].setOpeningBook(book);
+    }
+
+    /**
+     * The opening book in use, or null.
+     */
+    public OpeningBook getOpeningBook() {
+        return book;
+    }
+
+    public void setTablebases(Tablebases tablebases) {
+        for (SearchEngine worker : workers) {
+            worker.setTablebases(tablebases);
+        }
+    }
+
+    public SearchResult search(GameManager position, SearchLimits limits) {
+        if (workers.length == 1) {
+            return workers[0].search(position, limits);
+        }
+
+        SearchResult bookResult = workers[0].probeBook(position);
+        if (bookResult != null) {
+            return bookResult;
+        }
+
+        long start = System.nanoTime();
+        // One generation for the whole search, started before any worker stores an entry
+        table.newSearch();
+        // Helpers were stopped at the end of the last search. Only the main worker carries
+        // the caller's stop, and it stops the helpers when it returns.
+        for (int i = 1; i < workers.length; i++) {
+            workers[i].resetStop();
+        }
+        List<Future<SearchResult>> helpers = new ArrayList<>();
+        for (int i = 1; i < workers.length; i++) {
+            SearchEngine worker = workers[i];
+            int workerId = i;
+            // Each worker copies the position itself; copying only reads the original
+            helpers.add(executor.submit(() -> worker.search(position, limits, workerId)));
+        }
+
+        SearchResult best;
+        try {
+            best = workers[0].search(position, limits, 0);
+        } finally {
+            for (int i = 1; i < workers.length; i++) {
+                workers[i].stop();
+            }
+        }
+
+        long nodes = best.getNodes();
+        for (Future<SearchResult> helper : helpers) {
+            SearchResult result = join(helper);
+            nodes += result.getNodes();
+            if (result.hasMove() && result.getDepth() > best.getDepth()) {
+                best = result;
+            }
+        }
+        return new SearchResult(best.getBestMove(), best.getScore(), best.getDepth(), nodes,
+                System.nanoTime() - start, best.getPrincipalVariation());
+    }
+
+    private static SearchResult join(Future<SearchResult> helper) {
+        try {
+            return helper.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search helpers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e.getCause());
+        }
+    }
+
+    /**
+     * Registers a listener told about every iteration completed by the main worker.
+     * Node counts in those reports cover the main worker only.
+     */
+    public void setListener(SearchListener listener) {
+        workers[0].setListener(listener);
+    }
+
+    /**
+     * Stops a running search; the result of the last completed iteration is returned.
+     * A stop sent before the search starts ends it at once, see {@link #resetStop()}.
+     */
+    public void stop() {
+        for (SearchEngine worker : workers) {
+            worker.stop();
+        }
+    }
+
+    /**
+     * Clears an earlier stop. Call it on the controlling thread before starting a search
+     * that may be stopped from that thread.
+     */
+    public void resetStop() {
+        for (SearchEngine worker : workers) {
+            worker.resetStop();
+        }
+    }
+
+    /**
+     * Releases the helper threads. The search cannot be used afterwards.
+     */
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public int getThreadCount() {
+        return workers.length;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Searches the position to a fixed depth with each thread count, starting from an
+     * empty table every time, and prints time to depth, nodes/s and speedup over the
+     * first thread count.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ParallelSearch depth [saveName] [--threads 1,2,4,8]");
+            System.exit(1);
+        }
+        int depth = Integer.parseInt(args[0]);
+        String saveName = null;
+        String threadList = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--threads") && i + 1 < args.length) {
+                threadList = args[++i];
+            } else {
+                saveName = args[i];
+            }
+        }
+
+        List<Integer> threadCounts = new ArrayList<>();
+        if (threadList == null) {
+            for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                threadCounts.add(threads);
+            }
+        } else {
+            for (String count : threadList.split(",")) {
+                threadCounts.add(Integer.parseInt(count.trim()));
+            }
+        }
+
+        GameManager game;
+        if (saveName == null) {
+            game = new GameManager(new Player("Player 0", 0), new Player("Player 1", 1));
+        } else {
+            game = new FileManager().loadGame(saveName);
+            if (game == null) {
+                System.err.println("Could not load " + saveName);
+                System.exit(1);
+                return;
+            }
+        }
+
+        System.out.printf("%-8s %-6s %-10s %-14s %-14s %-8s%n",
+                "Threads", "Depth", "Time (s)", "Nodes", "NPS", "Speedup");
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            ParallelSearch search = new ParallelSearch(
+                    new TranspositionTable(TranspositionTable.DEFAULT_MEGABYTES,
+                            TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED), threads);
+            try {
+                SearchResult result = search.search(game, SearchLimits.depth(depth));
+                double seconds = result.getElapsedNanos() / 1e9;
+                if (baseline == 0) {
+                    baseline = seconds;
+                }
+                System.out.printf("%-8d %-6d %-10.3f %-14d %-14.0f %-8.2f%n", threads, result.getDepth(),
+                        seconds, result.getNodes(), result.getNodesPerSecond(), baseline / seconds);
+            } finally {
+                search.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.components.Animals.Elephant;
+import Java.COMP3211_JungleGame.components.Animals.Rat;
+import Java.COMP3211_JungleGame.controller.FileManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the leaf nodes of the move tree to a fixed depth.
+ *
+ * Used both to check the move generator, by comparing against a brute-force count that
+ * tries every from/to pair against an independent walk over the rules, and as a
+ * throughput benchmark.
+ * A position where the game is over has no children, so it contributes nothing at
+ * deeper levels.
+ *
+ * Usage: Perft depth [saveName] [--threads N] [--verify]
+ */
+public class Perft {
+    private final GameManager game;
+    private final MoveBuffer[] buffers;
+
+    public Perft(GameManager game, int maxDepth) {
+        this.game = game;
+        this.buffers = new MoveBuffer[Math.max(maxDepth, 1)];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new MoveBuffer();
+        }
+    }
+
+    public long count(int depth) {
+        return count(depth, 0);
+    }
+
+    private long count(int depth, int ply) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (game.isGameOver()) {
+            return 0;
+        }
+        MoveBuffer moves = buffers[ply];
+        int moveCount = game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+        if (depth == 1) {
+            return moveCount;
+        }
+        long nodes = 0;
+        for (int i = 0; i < moveCount; i++) {
+            int move = moves.get(i);
+            int token = game.makeMove(move);
+            nodes += count(depth - 1, ply + 1);
+            game.unmakeMove(move, token);
+        }
+        return nodes;
+    }
+
+    /**
+     * Reference count that finds moves by trying every from/to pair against
+     * {@link #isLegalByRules}, which shares no code with the generator. Slow; only for
+     * verifying count().
+     */
+    public long countByValidation(int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (game.isGameOver()) {
+            return 0;
+        }
+        long nodes = 0;
+        for (int from = 0; from < 63; from++) {
+            for (int to = 0; to < 63; to++) {
+                if (!isLegalByRules(game, Position.ofIndex(from), Position.ofIndex(to))) {
+                    continue;
+                }
+                int move = Move.encode(from, to);
+                int token = game.makeMove(move);
+                nodes += countByValidation(depth - 1);
+                game.unmakeMove(move, token);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * The move rules walked square by square for the side to move, written the way the
+     * original exception-based validator checked them: piece classes, Piece.canCapture and
+     * a scan of the squares a jump passes over, with no jump or capture tables.
+     */
+    static boolean isLegalByRules(GameManager game, Position from, Position to) {
+        Board board = game.getBoard();
+        int player = game.getCurrentPlayerIndex();
+        Piece piece = board.getPieceAt(from);
+        if (piece == null || piece.getOwner().getPlayerId() != player || from.equals(to)) {
+            return false;
+        }
+        Piece targetPiece = board.getPieceAt(to);
+        if (targetPiece != null && targetPiece.getOwner().getPlayerId() == player) {
+            return false;
+        }
+        if (board.isDen(to, player)) {
+            return false;
+        }
+
+        if (piece.canJumpWater()) {
+            int rowStep = Integer.signum(to.getRow() - from.getRow());
+            int colStep = Integer.signum(to.getColumn() - from.getColumn());
+            if (rowStep == 0 || colStep == 0) {
+                boolean overWater = false;
+                boolean ratInWater = false;
+                int row = from.getRow() + rowStep;
+                int col = from.getColumn() + colStep;
+                while (row != to.getRow() || col != to.getColumn()) {
+                    Position middle = Position.of(row, col);
+                    if (board.isWater(middle)) {
+                        overWater = true;
+                        ratInWater |= board.getPieceAt(middle) instanceof Rat;
+                    }
+                    row += rowStep;
+                    col += colStep;
+                }
+                if (overWater) {
+                    return !ratInWater && (targetPiece == null || piece.canCapture(targetPiece));
+                }
+            }
+        }
+
+        if (!from.isAdjacentTo(to)) {
+            return false;
+        }
+        if (board.isWater(to) && !piece.canEnterWater()) {
+            return false;
+        }
+        if (piece instanceof Rat && board.isWater(from)
+                && ((targetPiece instanceof Rat && !board.isWater(to)) || targetPiece instanceof Elephant)) {
+            return false;
+        }
+        if (piece instanceof Rat && !board.isWater(from) && targetPiece instanceof Rat && board.isWater(to)) {
+            return false;
+        }
+        return targetPiece == null || board.isTrap(from, 1 - player) || piece.canCapture(targetPiece);
+    }
+
+    /**
+     * Counts each root move's subtree, splitting the root moves across a fork-join pool.
+     * Every task searches its own copy of the game.
+     */
+    public static DivideResult divide(GameManager game, int depth, int threads) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Divide depth must be at least 1");
+        }
+        MoveBuffer rootMoves = new MoveBuffer();
+        if (!game.isGameOver()) {
+            game.generateLegalMoves(game.getCurrentPlayerIndex(), rootMoves);
+        }
+
+        long start = System.nanoTime();
+        List<RootTask> tasks = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(threads, 1));
+        try {
+            for (int i = 0; i < rootMoves.size(); i++) {
+                RootTask task = new RootTask(game.copy(), rootMoves.get(i), depth - 1);
+                tasks.add(task);
+                pool.execute(task);
+            }
+            int[] moves = new int[tasks.size()];
+            long[] counts = new long[tasks.size()];
+            for (int i = 0; i < tasks.size(); i++) {
+                moves[i] = tasks.get(i).move;
+                counts[i] = tasks.get(i).join();
+            }
+            return new DivideResult(moves, counts, System.nanoTime() - start, Math.max(threads, 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static class RootTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameManager game;
+        private final int move;
+        private final int depth;
+
+        RootTask(GameManager game, int move, int depth) {
+            this.game = game;
+            this.move = move;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            game.makeMove(move);
+            return new Perft(game, depth).count(depth);
+        }
+    }
+
+    /**
+     * Per-root-move node counts with timing.
+     */
+    public static class DivideResult {
+        private final int[] moves;
+        private final long[] counts;
+        private final long elapsedNanos;
+        private final int threads;
+
+        DivideResult(int[] moves, long[] counts, long elapsedNanos, int threads) {
+            this.moves = moves;
+            this.counts = counts;
+            this.elapsedNanos = elapsedNanos;
+            this.threads = threads;
+        }
+
+        public int getMoveCount() {
+            return moves.length;
+        }
+
+        public int getMove(int index) {
+            return moves[index];
+        }
+
+        public long getCount(int index) {
+            return counts[index];
+        }
+
+        public long getTotalNodes() {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getNodesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : getTotalNodes() * 1e9 / elapsedNanos;
+        }
+
+        public double getNodesPerSecondPerThread() {
+            return getNodesPerSecond() / threads;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder();
+            for (int i = 0; i < moves.length; i++) {
+                out.append(Move.toString(moves[i])).append(": ").append(counts[i]).append('\n');
+            }
+            out.append(String.format("%nMoves: %d%nNodes: %d%nTime: %.3f s%nNPS: %.0f (%.0f per thread, %d threads)",
+                    moves.length, getTotalNodes(), elapsedNanos / 1e9,
+                    getNodesPerSecond(), getNodesPerSecondPerThread(), threads));
+            return out.toString();
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: Perft depth [saveName] [--threads N] [--verify]");
+            System.exit(1);
+        }
+        int depth = Integer.parseInt(args[0]);
+        String saveName = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean verify = false;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--verify")) {
+                verify = true;
+            } else {
+                saveName = args[i];
+            }
+        }
+
+        GameManager game;
+        if (saveName == null) {
+            game = new GameManager(new Player("Player 0", 0), new Player("Player 1", 1));
+        } else {
+            game = new FileManager().loadGame(saveName);
+            if (game == null) {
+                System.err.println("Could not load " + saveName);
+                System.exit(1);
+                return;
+            }
+        }
+
+        DivideResult result = divide(game, depth, threads);
+        System.out.println(result);
+
+        if (verify) {
+            long expected = new Perft(game.copy(), depth).countByValidation(depth);
+            System.out.println("Validation count: " + expected +
+                    (expected == result.getTotalNodes() ? " (match)" : " (MISMATCH)"));
+            if (expected != result.getTotalNodes()) {
+                System.exit(2);
+            }
+        }
+    }
+}
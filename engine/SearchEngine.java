@@ -0,0 +1,475 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+/**
+ * Iterative-deepening alpha-beta search over GameManager's move generator and
+ * makeMove/unmakeMove.
+ *
+ * Each iteration searches with a principal-variation alpha-beta backed by the
+ * transposition table, killer moves and a capture-only quiescence search. From depth
+ * 4 on, an iteration starts with an aspiration window around the previous score and
+ * widens it on failure. The search stops at the depth, time or node limit, or on
+ * stop(), and returns the best move of the last completed iteration.
+ *
+ * The caller's GameManager is never modified: the search runs on a copy.
+ * An instance is not thread-safe; use one per thread (they may share a table).
+ */
+public class SearchEngine {
+    public static final int WIN_SCORE = 30000;
+    private static final int INFINITY = 32000;
+    private static final int MAX_PLY = 128;
+    private static final int MAX_QUIESCENCE_PLY = 8;
+    private static final int ASPIRATION_WINDOW = 50;
+    private static final int MIN_ASPIRATION_DEPTH = 4;
+    private static final int CHECK_INTERVAL = 1023;
+
+    private static final int TT_MOVE_SCORE = 1 << 30;
+    private static final int DEN_ENTRY_SCORE = 1 << 29;
+    private static final int CAPTURE_SCORE = 1 << 20;
+    private static final int KILLER_SCORE = 1 << 19;
+
+    private final TranspositionTable table;
+    private final Evaluator evaluator;
+    private final MoveBuffer[] moveBuffers = new MoveBuffer[MAX_PLY + 1];
+    private final int[][] moveScores = new int[MAX_PLY + 1][];
+    private final int[][] killers = new int[MAX_PLY + 1][2];
+    private final MoveBuffer pvBuffer = new MoveBuffer();
+
+    private GameManager game;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private boolean aborted;
+    private volatile boolean stopRequested;
+    private SearchListener listener;
+    private Tablebases tablebases;
+    private OpeningBook book;
+    private int tablebasePieces;
+    private int rootBestMove;
+
+    public SearchEngine(TranspositionTable table) {
+        this(table, new Evaluator());
+    }
+
+    public SearchEngine(TranspositionTable table, Evaluator evaluator) {
+        this.table = table;
+        this.evaluator = evaluator;
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            moveBuffers[ply] = new MoveBuffer();
+            moveScores[ply] = new int[128];
+        }
+    }
+
+    /**
+     * Registers a listener told about every completed iteration, or null for none.
+     */
+    public void setListener(SearchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Uses endgame tablebases for positions with few enough pieces, or none if null.
+     */
+    public void setTablebases(Tablebases tablebases) {
+        this.tablebases = tablebases;
+        this.tablebasePieces = tablebases == null ? 0 : tablebases.getMaxPieces();
+    }
+
+    /**
+     * Plays book moves, without searching, while the position is in the book; null for none.
+     */
+    public void setOpeningBook(OpeningBook book) {
+        this.book = book;
+    }
+
+    /**
+     * Result for the book move in the position, or null when the book has none.
+     */
+    SearchResult probeBook(GameManager position) {
+        if (book == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        int move = book.bestMove(position, 1);
+        if (move == Move.NONE) {
+            return null;
+        }
+        return new SearchResult(move, 0, 0, 0, System.nanoTime() - start, new int[]{move});
+    }
+
+    public static boolean isWinScore(int score) {
+        return Math.abs(score) >= WIN_SCORE - MAX_PLY;
+    }
+
+    /**
+     * Asks a running search to finish; it returns the best move found so far. A stop
+     * that arrives before the search starts is kept, so the search ends straight away.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Clears an earlier stop. Callers that stop searches from another thread call this on
+     * their own thread before starting the next one, so a stop sent right after the start
+     * cannot be lost.
+     */
+    public void resetStop() {
+        stopRequested = false;
+    }
+
+    public SearchResult search(GameManager position, SearchLimits limits) {
+        SearchResult bookResult = probeBook(position);
+        if (bookResult != null) {
+            return bookResult;
+        }
+        table.newSearch();
+        return search(position, limits, 0);
+    }
+
+    /**
+     * Runs one worker of a parallel search. The caller has already probed the book and
+     * started a new table generation, so no worker touches either. Worker 0 reports the
+     * result; helpers run until stopped or out of depth, and odd-numbered helpers search
+     * one ply deeper each iteration so the threads spread over different depths instead
+     * of repeating each other's work.
+     * The caller resets the stop flag through {@link #resetStop()} before starting.
+     */
+    SearchResult search(GameManager position, SearchLimits limits, int workerId) {
+        long start = System.nanoTime();
+        game = position.copy();
+        evaluator.install(game.getBoard());
+        nodes = 0;
+        aborted = false;
+        nodeLimit = limits.getMaxNodes();
+        deadline = limits.getTimeMillis() > 0 ? start + limits.getTimeMillis() * 1_000_000 : 0;
+        boolean helper = workerId > 0;
+        for (int[] killer : killers) {
+            killer[0] = Move.NONE;
+            killer[1] = Move.NONE;
+        }
+
+        MoveBuffer rootMoves = moveBuffers[0];
+        if (game.isGameOver() || game.generateLegalMoves(game.getCurrentPlayerIndex(), rootMoves) == 0) {
+            return new SearchResult(Move.NONE, 0, 0, 0, System.nanoTime() - start, new int[0]);
+        }
+
+        int bestMove = rootMoves.get(0);
+        int bestScore = 0;
+        int completedDepth = 0;
+        int[] pv = new int[]{bestMove};
+
+        for (int depth = 1 + (workerId & 1); depth <= limits.getMaxDepth(); depth++) {
+            int window = ASPIRATION_WINDOW;
+            int alpha = -INFINITY;
+            int beta = INFINITY;
+            if (depth >= MIN_ASPIRATION_DEPTH && !isWinScore(bestScore)) {
+                alpha = bestScore - window;
+                beta = bestScore + window;
+            }
+
+            int score;
+            while (true) {
+                score = alphaBeta(depth, 0, alpha, beta);
+                if (aborted) {
+                    break;
+                }
+                if (score <= alpha && alpha > -INFINITY) {
+                    window *= 4;
+                    alpha = window > WIN_SCORE ? -INFINITY : Math.max(score - window, -INFINITY);
+                } else if (score >= beta && beta < INFINITY) {
+                    window *= 4;
+                    beta = window > WIN_SCORE ? INFINITY : Math.min(score + window, INFINITY);
+                } else {
+                    break;
+                }
+            }
+            if (aborted) {
+                break;
+            }
+
+            bestMove = rootBestMove;
+            bestScore = score;
+            completedDepth = depth;
+            pv = extractPrincipalVariation(bestMove, depth);
+            if (listener != null && !helper) {
+                listener.onIteration(new SearchResult(bestMove, bestScore, completedDepth, nodes,
+                        System.nanoTime() - start, pv));
+            }
+
+            if (isWinScore(score)) {
+                break;
+            }
+            // Another iteration would likely not finish in the time left
+            if (!helper && deadline > 0 && (System.nanoTime() - start) * 2 > deadline - start) {
+                break;
+            }
+        }
+
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes, System.nanoTime() - start, pv);
+    }
+
+    private int alphaBeta(int depth, int ply, int alpha, int beta) {
+        if (ply > 0 && Long.bitCount(game.getBoard().getOccupancy()) <= tablebasePieces) {
+            int value = tablebases.probe(game.getBoard(), game.getCurrentPlayerIndex());
+            if (value != Tablebase.UNKNOWN) {
+                nodes++;
+                if (value == 0) {
+                    return 0;
+                }
+                // Same scale as a win found by search; very long wins are capped to stay in win range
+                int winScore = WIN_SCORE - Math.min(ply + Math.abs(value), MAX_PLY - 1);
+                return value > 0 ? winScore : -winScore;
+            }
+        }
+        if (depth <= 0 || ply >= MAX_PLY) {
+            return quiescence(ply, alpha, beta, 0);
+        }
+        nodes++;
+        if (checkLimits()) {
+            return 0;
+        }
+
+        long hash = game.getPositionHash();
+        int ttMove = Move.NONE;
+        long entry = table.probe(hash);
+        if (entry != 0) {
+            ttMove = TranspositionTable.moveOf(entry);
+            if (ply > 0 && TranspositionTable.depthOf(entry) >= depth) {
+                int score = scoreFromTable(TranspositionTable.scoreOf(entry), ply);
+                int bound = TranspositionTable.boundOf(entry);
+                if (bound == TranspositionTable.BOUND_EXACT
+                        || (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+                        || (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        MoveBuffer moves = moveBuffers[ply];
+        int count = game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+        if (count == 0) {
+            // The rules do not cover a player with no legal move; score it as a draw
+            return 0;
+        }
+        scoreMoves(ply, ttMove);
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = Move.NONE;
+        for (int i = 0; i < count; i++) {
+            int move = pickNextMove(ply, i);
+            boolean quiet = game.getBoard().getPieceAt(Move.getTo(move)) == null;
+            int token = game.makeMove(move);
+            int score;
+            if (game.isGameOver()) {
+                score = game.getWinner() == null ? 0 : WIN_SCORE - (ply + 1);
+            } else if (i == 0) {
+                score = -alphaBeta(depth - 1, ply + 1, -beta, -alpha);
+            } else {
+                score = -alphaBeta(depth - 1, ply + 1, -alpha - 1, -alpha);
+                if (!aborted && score > alpha && score < beta) {
+                    score = -alphaBeta(depth - 1, ply + 1, -beta, -alpha);
+                }
+            }
+            game.unmakeMove(move, token);
+            if (aborted) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (ply == 0) {
+                    rootBestMove = move;
+                }
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                if (quiet && killers[ply][0] != move) {
+                    killers[ply][1] = killers[ply][0];
+                    killers[ply][0] = move;
+                }
+                break;
+            }
+        }
+
+        int bound = bestScore <= originalAlpha ? TranspositionTable.BOUND_UPPER
+                : bestScore >= beta ? TranspositionTable.BOUND_LOWER : TranspositionTable.BOUND_EXACT;
+        table.store(hash, bestMove, scoreToTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    /**
+     * Searches captures and den entries only, so the static evaluation is not taken in
+     * the middle of an exchange.
+     */
+    private int quiescence(int ply, int alpha, int beta, int quiescencePly) {
+        nodes++;
+        if (checkLimits()) {
+            return 0;
+        }
+        if (game.getBoard().getAttackMap().canReachDen(game.getCurrentPlayerIndex())) {
+            // A den entry is always legal once a piece can reach the den, and it ends the game
+            return WIN_SCORE - (ply + 1);
+        }
+        int standPat = evaluator.evaluate(game);
+        if (standPat >= beta || ply >= MAX_PLY || quiescencePly >= MAX_QUIESCENCE_PLY) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        MoveBuffer moves = moveBuffers[ply];
+        int count = game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+        scoreMoves(ply, Move.NONE);
+        int bestScore = standPat;
+        for (int i = 0; i < count; i++) {
+            int move = pickNextMove(ply, i);
+            if (moveScores[ply][i] < KILLER_SCORE) {
+                // Remaining moves are quiet: no capture and no den entry
+                break;
+            }
+            int token = game.makeMove(move);
+            int score = game.isGameOver() ? (game.getWinner() == null ? 0 : WIN_SCORE - (ply + 1))
+                    : -quiescence(ply + 1, -beta, -alpha, quiescencePly + 1);
+            game.unmakeMove(move, token);
+            if (aborted) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return bestScore;
+    }
+
+    private void scoreMoves(int ply, int ttMove) {
+        MoveBuffer moves = moveBuffers[ply];
+        if (moveScores[ply].length < moves.size()) {
+            moveScores[ply] = new int[moves.size() * 2];
+        }
+        Board board = game.getBoard();
+        AttackMap attacks = board.getAttackMap();
+        int opponent = 1 - game.getCurrentPlayerIndex();
+        long opponentDen = Board.getDenMask(opponent);
+        int[] scores = moveScores[ply];
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int to = Move.getTo(move);
+            Piece victim = board.getPieceAt(to);
+            int score;
+            if (move == ttMove) {
+                score = TT_MOVE_SCORE;
+            } else if ((opponentDen & (1L << to)) != 0) {
+                score = DEN_ENTRY_SCORE;
+            } else if (victim != null) {
+                Piece attacker = board.getPieceAt(Move.getFrom(move));
+                score = CAPTURE_SCORE + evaluator.pieceValue(victim.getTypeIndex()) * 16
+                        - attacker.getRank();
+            } else if (move == killers[ply][0]) {
+                score = KILLER_SCORE - 1;
+            } else if (move == killers[ply][1]) {
+                score = KILLER_SCORE - 2;
+            } else if (attacks.canCapture(opponent, to, board.getPieceAt(Move.getFrom(move)).getTypeIndex())) {
+                // Quiet moves onto squares the opponent can take go last
+                score = -1;
+            } else {
+                score = 0;
+            }
+            scores[i] = score;
+        }
+    }
+
+    /**
+     * Selection sort step: swaps the best remaining move into slot {@code index}.
+     */
+    private int pickNextMove(int ply, int index) {
+        MoveBuffer moves = moveBuffers[ply];
+        int[] scores = moveScores[ply];
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        if (best != index) {
+            int move = moves.get(best);
+            moves.set(best, moves.get(index));
+            moves.set(index, move);
+            int score = scores[best];
+            scores[best] = scores[index];
+            scores[index] = score;
+        }
+        return moves.get(index);
+    }
+
+    private boolean checkLimits() {
+        if (aborted) {
+            return true;
+        }
+        if (nodeLimit > 0 && nodes >= nodeLimit) {
+            aborted = true;
+        } else if ((nodes & CHECK_INTERVAL) == 0
+                && (stopRequested || (deadline > 0 && System.nanoTime() >= deadline))) {
+            aborted = true;
+        }
+        return aborted;
+    }
+
+    private int[] extractPrincipalVariation(int firstMove, int maxLength) {
+        int[] line = new int[maxLength];
+        int[] tokens = new int[maxLength];
+        int length = 0;
+        int move = firstMove;
+        while (length < maxLength && move != Move.NONE && !game.isGameOver()) {
+            game.generateLegalMoves(game.getCurrentPlayerIndex(), pvBuffer);
+            if (!pvBuffer.contains(move)) {
+                break;
+            }
+            line[length] = move;
+            tokens[length] = game.makeMove(move);
+            length++;
+            long entry = table.probe(game.getPositionHash());
+            move = entry == 0 ? Move.NONE : TranspositionTable.moveOf(entry);
+        }
+        for (int i = length - 1; i >= 0; i--) {
+            game.unmakeMove(line[i], tokens[i]);
+        }
+        return java.util.Arrays.copyOf(line, length);
+    }
+
+    private static int scoreToTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -WIN_SCORE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -WIN_SCORE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,12 @@
+package Java.COMP3211_JungleGame.engine;
+
+/**
+ * Receives progress from a running search. Called on the searching thread, so an
+ * implementation should return quickly.
+ */
+public interface SearchListener {
+    /**
+     * Called after each completed iteration with the result so far.
+     */
+    void onIteration(SearchResult result);
+}
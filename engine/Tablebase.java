@@ -0,0 +1,253 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Solved values for every position of one material signature.
+ *
+ * A value is from the side to move's point of view: +n means it wins in n plies, -n
+ * means it loses in n plies, and 0 is a draw. Positions that cannot occur in a game
+ * (two pieces on a square, a piece in a den, an animal in water that cannot get there)
+ * also read as 0.
+ *
+ * On disk the values are 16-bit entries, compressed with Deflate in fixed-size blocks.
+ * An opened file is memory-mapped rather than read: a probe inflates just the block it
+ * needs and keeps recent blocks in a small cache, so only the compressed file (not the
+ * values) has to fit in the address space.
+ *
+ * The whole file is mapped as one buffer, so a file may be at most 2 GB. That is far
+ * more than the generator can produce: it stops at {@link TablebaseGenerator#MAX_PIECES}
+ * (4) pieces, whose 63^4 positions take about 31 MB before compression.
+ *
+ * File layout (big-endian): magic "JTB1", version, player 0 mask, player 1 mask,
+ * position count, entries per block, block count, largest distance, then block count + 1
+ * file offsets, then the compressed blocks.
+ */
+public final class Tablebase {
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+    public static final String EXTENSION = ".jtb";
+
+    // Generation-time marker for a position not solved yet
+    static final short UNRESOLVED = Short.MIN_VALUE;
+
+    private static final int MAGIC = 0x4A544231;
+    private static final int VERSION = 1;
+    private static final int BLOCK_ENTRIES = 8192;
+    private static final int HEADER_BYTES = 4 + 4 + 1 + 1 + 8 + 4 + 4 + 4;
+    private static final int CACHED_BLOCKS = 64;
+
+    private final MaterialSignature signature;
+    private final int maxDistance;
+    private final short[] values;
+    private final MappedByteBuffer file;
+    private final int blockEntries;
+    private final long[] blockOffsets;
+    private final Map<Integer, short[]> blockCache;
+    // Square scratch for probe, one per searching thread
+    private final ThreadLocal<int[]> probeSquares;
+
+    private Tablebase(MaterialSignature signature, int maxDistance, short[] values) {
+        this.signature = signature;
+        this.maxDistance = maxDistance;
+        this.values = values;
+        this.file = null;
+        this.blockEntries = 0;
+        this.blockOffsets = null;
+        this.blockCache = null;
+        this.probeSquares = ThreadLocal.withInitial(() -> new int[signature.getPieceCount()]);
+    }
+
+    private Tablebase(MaterialSignature signature, int maxDistance, MappedByteBuffer file,
+                      int blockEntries, long[] blockOffsets) {
+        this.signature = signature;
+        this.maxDistance = maxDistance;
+        this.values = null;
+        this.file = file;
+        this.blockEntries = blockEntries;
+        this.blockOffsets = blockOffsets;
+        this.blockCache = new LinkedHashMap<>(CACHED_BLOCKS * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, short[]> eldest) {
+                return size() > CACHED_BLOCKS;
+            }
+        };
+        this.probeSquares = ThreadLocal.withInitial(() -> new int[signature.getPieceCount()]);
+    }
+
+    /**
+     * Wraps values held in memory, as produced by the generator.
+     */
+    static Tablebase inMemory(MaterialSignature signature, short[] values, int maxDistance) {
+        return new Tablebase(signature, maxDistance, values);
+    }
+
+    public static Tablebase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Tablebase file over 2 GB cannot be mapped: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a tablebase file: " + path);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported tablebase version " + buffer.getInt(4) + ": " + path);
+            }
+            MaterialSignature signature = new MaterialSignature(buffer.get(8) & 0xFF, buffer.get(9) & 0xFF);
+            long positions = buffer.getLong(10);
+            if (positions != signature.getPositionCount()) {
+                throw new IOException("Position count does not match signature " + signature + ": " + path);
+            }
+            int blockEntries = buffer.getInt(18);
+            int blockCount = buffer.getInt(22);
+            int maxDistance = buffer.getInt(26);
+            long[] offsets = new long[blockCount + 1];
+            for (int i = 0; i <= blockCount; i++) {
+                offsets[i] = buffer.getLong(HEADER_BYTES + i * 8);
+            }
+            return new Tablebase(signature, maxDistance, buffer, blockEntries, offsets);
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        long positions = signature.getPositionCount();
+        int blockCount = (int) ((positions + BLOCK_ENTRIES - 1) / BLOCK_ENTRIES);
+        byte[][] blocks = new byte[blockCount][];
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        ByteBuffer raw = ByteBuffer.allocate(BLOCK_ENTRIES * 2);
+        byte[] out = new byte[BLOCK_ENTRIES * 2 + 1024];
+        try {
+            for (int block = 0; block < blockCount; block++) {
+                raw.clear();
+                long start = (long) block * BLOCK_ENTRIES;
+                long end = Math.min(start + BLOCK_ENTRIES, positions);
+                for (long index = start; index < end; index++) {
+                    raw.putShort((short) get(index));
+                }
+                deflater.reset();
+                deflater.setInput(raw.array(), 0, raw.position());
+                deflater.finish();
+                int length = 0;
+                while (!deflater.finished()) {
+                    length += deflater.deflate(out, length, out.length - length);
+                }
+                blocks[block] = Arrays.copyOf(out, length);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        try (OutputStream stream = Files.newOutputStream(path);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(stream))) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeByte(signature.getMask(0));
+            data.writeByte(signature.getMask(1));
+            data.writeLong(positions);
+            data.writeInt(BLOCK_ENTRIES);
+            data.writeInt(blockCount);
+            data.writeInt(maxDistance);
+            long offset = HEADER_BYTES + (blockCount + 1) * 8L;
+            for (byte[] block : blocks) {
+                data.writeLong(offset);
+                offset += block.length;
+            }
+            data.writeLong(offset);
+            for (byte[] block : blocks) {
+                data.write(block);
+            }
+        }
+    }
+
+    /**
+     * Value of the position with the board's pieces and side to move. The board must hold
+     * exactly this table's material, either way round.
+     */
+    public int probe(Board board, int sideToMove) {
+        boolean flipped = MaterialSignature.sideMask(board, 0) != signature.getMask(0)
+                || MaterialSignature.sideMask(board, 1) != signature.getMask(1);
+        int[] squares = probeSquares.get();
+        for (int slot = 0; slot < squares.length; slot++) {
+            int owner = signature.getSlotOwner(slot);
+            int type = signature.getSlotType(slot);
+            if (flipped) {
+                long mask = board.getPieceMask(1 - owner, type);
+                squares[slot] = MaterialSignature.flipRows(Long.numberOfTrailingZeros(mask));
+            } else {
+                squares[slot] = Long.numberOfTrailingZeros(board.getPieceMask(owner, type));
+            }
+        }
+        return get(signature.index(squares, flipped ? 1 - sideToMove : sideToMove));
+    }
+
+    int get(long index) {
+        if (values != null) {
+            return values[(int) index];
+        }
+        int block = (int) (index / blockEntries);
+        return loadBlock(block)[(int) (index % blockEntries)];
+    }
+
+    private short[] loadBlock(int block) {
+        synchronized (blockCache) {
+            short[] cached = blockCache.get(block);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        int start = (int) blockOffsets[block];
+        int length = (int) (blockOffsets[block + 1] - start);
+        byte[] compressed = new byte[length];
+        ByteBuffer view = file.duplicate();
+        view.position(start);
+        view.get(compressed);
+
+        byte[] raw = new byte[blockEntries * 2];
+        Inflater inflater = new Inflater();
+        int size;
+        try {
+            inflater.setInput(compressed);
+            size = inflater.inflate(raw);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt tablebase block " + block + " in " + signature, e);
+        } finally {
+            inflater.end();
+        }
+        short[] entries = new short[size / 2];
+        ByteBuffer.wrap(raw, 0, size).order(ByteOrder.BIG_ENDIAN).asShortBuffer().get(entries);
+        synchronized (blockCache) {
+            blockCache.put(block, entries);
+        }
+        return entries;
+    }
+
+    public MaterialSignature getSignature() {
+        return signature;
+    }
+
+    /**
+     * Longest win or loss distance in the table, in plies.
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+}
@@ -0,0 +1,339 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Solves material signatures by retrograde analysis, using GameManager's own move
+ * generator and makeMove, so the water, jump, trap and den rules are exactly those of
+ * the game.
+ *
+ * Tables for the signatures reachable by one capture are solved (or loaded) first.
+ * The solver then sweeps the whole index once per distance d = 1, 2, 3...: an unsolved
+ * position becomes a win in d if some move wins at once (d = 1) or leads to a position
+ * lost in d - 1, and a loss in d if every move leads to a position already known to be
+ * won by the opponent. Captures leave the signature and are looked up in the smaller
+ * tables. Sweeps stop once one changes nothing and no smaller table can still feed in a
+ * longer distance; whatever is left is a draw, as is a position with no legal moves.
+ *
+ * Each sweep is split over a thread pool. A sweep only writes the positions it
+ * evaluates and only trusts values below the current distance, so threads need no
+ * locking.
+ *
+ * Usage: TablebaseGenerator SIGNATURE... [--out dir] [--threads N]   (e.g. RE-L)
+ */
+public class TablebaseGenerator {
+    public static final int MAX_PIECES = 4;
+    private static final int CHUNK = 4096;
+
+    private final Tablebases tablebases;
+    private final Path directory;
+    private final int threads;
+    private PrintStream progress;
+
+    /**
+     * Solved tables are added to the given set, and written to the directory unless it
+     * is null.
+     */
+    public TablebaseGenerator(Tablebases tablebases, Path directory, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, got: " + threads);
+        }
+        this.tablebases = tablebases;
+        this.directory = directory;
+        this.threads = threads;
+    }
+
+    public void setProgress(PrintStream progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Returns the table for the signature, solving it and any missing smaller tables.
+     */
+    public Tablebase generate(MaterialSignature requested) throws IOException {
+        MaterialSignature signature = requested.canonical();
+        Tablebase existing = tablebases.get(signature);
+        if (existing != null) {
+            return existing;
+        }
+        if (signature.getPieceCount() > MAX_PIECES) {
+            throw new IllegalArgumentException("Tablebases are limited to " + MAX_PIECES +
+                    " pieces, " + signature + " has " + signature.getPieceCount());
+        }
+
+        int maxSubDistance = 0;
+        for (int slot = 0; slot < signature.getPieceCount(); slot++) {
+            int owner = signature.getSlotOwner(slot);
+            int ownerMask = signature.getMask(owner) & ~(1 << signature.getSlotType(slot));
+            if (ownerMask == 0) {
+                continue;
+            }
+            MaterialSignature sub = owner == 0
+                    ? new MaterialSignature(ownerMask, signature.getMask(1))
+                    : new MaterialSignature(signature.getMask(0), ownerMask);
+            maxSubDistance = Math.max(maxSubDistance, generate(sub).getMaxDistance());
+        }
+
+        long start = System.nanoTime();
+        short[] values = solve(signature, maxSubDistance);
+        int maxDistance = 0;
+        long wins = 0, losses = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == Tablebase.UNRESOLVED) {
+                values[i] = 0;
+            } else if (values[i] > 0) {
+                wins++;
+            } else if (values[i] < 0) {
+                losses++;
+            }
+            maxDistance = Math.max(maxDistance, Math.abs(values[i]));
+        }
+        Tablebase table = Tablebase.inMemory(signature, values, maxDistance);
+        tablebases.add(table);
+        if (directory != null) {
+            Files.createDirectories(directory);
+            table.write(directory.resolve(signature + Tablebase.EXTENSION));
+        }
+        if (progress != null) {
+            progress.printf("%s: %d positions, %d wins, %d losses, longest %d plies, %.1f s%n",
+                    signature, values.length, wins, losses, maxDistance, (System.nanoTime() - start) / 1e9);
+        }
+        return table;
+    }
+
+    private short[] solve(MaterialSignature signature, int maxSubDistance) throws IOException {
+        short[] values = new short[(int) signature.getPositionCount()];
+        Arrays.fill(values, Tablebase.UNRESOLVED);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Scratch> scratches = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                scratches.add(new Scratch(signature));
+            }
+            runSweep(executor, scratches, values, scratch -> scratch.markInvalid(values));
+            for (int distance = 1; distance < Short.MAX_VALUE; distance++) {
+                int d = distance;
+                long changed = runSweep(executor, scratches, values, scratch -> scratch.sweep(values, d));
+                if (changed == 0 && distance > maxSubDistance + 1) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return values;
+    }
+
+    private long runSweep(ExecutorService executor, List<Scratch> scratches, short[] values,
+                          Function<Scratch, ChunkWork> work) throws IOException {
+        AtomicLong next = new AtomicLong();
+        LongAdder changed = new LongAdder();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Scratch scratch : scratches) {
+            ChunkWork chunkWork = work.apply(scratch);
+            futures.add(executor.submit(() -> {
+                long start;
+                while ((start = next.getAndAdd(CHUNK)) < values.length) {
+                    changed.add(chunkWork.run(start, Math.min(start + CHUNK, values.length)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while generating tablebase", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Tablebase generation failed", e.getCause());
+            }
+        }
+        return changed.sum();
+    }
+
+    private interface ChunkWork {
+        long run(long start, long end);
+    }
+
+    /**
+     * Per-thread board, pieces and buffers for evaluating positions of one signature.
+     */
+    private final class Scratch {
+        private final MaterialSignature signature;
+        private final GameManager game;
+        private final Board board;
+        private final Piece[] pieces;
+        private final int[] squares;
+        private final int[] childSquares;
+        private final MoveBuffer moves = new MoveBuffer();
+
+        Scratch(MaterialSignature signature) {
+            this.signature = signature;
+            this.game = GameManager.empty(new Player("Player 0", 0), new Player("Player 1", 1));
+            // Tablebase values are about the position alone, never the path to it
+            game.getPositionHistory().setLimits(0, 0);
+            this.board = game.getBoard();
+            int count = signature.getPieceCount();
+            this.pieces = new Piece[count];
+            for (int slot = 0; slot < count; slot++) {
+                Player owner = game.getPlayer(signature.getSlotOwner(slot));
+                pieces[slot] = PieceFactory.create(signature.getSlotType(slot), owner, Position.ofIndex(0));
+            }
+            this.squares = new int[count];
+            this.childSquares = new int[count];
+        }
+
+        ChunkWork markInvalid(short[] values) {
+            return (start, end) -> {
+                for (long index = start; index < end; index++) {
+                    signature.decode(index, squares);
+                    if (!isValid()) {
+                        values[(int) index] = 0;
+                    }
+                }
+                return 0;
+            };
+        }
+
+        ChunkWork sweep(short[] values, int distance) {
+            return (start, end) -> {
+                long changed = 0;
+                for (long index = start; index < end; index++) {
+                    if (values[(int) index] != Tablebase.UNRESOLVED) {
+                        continue;
+                    }
+                    int value = evaluate(index, values, distance);
+                    if (value != Tablebase.UNRESOLVED) {
+                        values[(int) index] = (short) value;
+                        changed++;
+                    }
+                }
+                return changed;
+            };
+        }
+
+        private boolean isValid() {
+            for (int i = 0; i < squares.length; i++) {
+                int square = squares[i];
+                for (int j = 0; j < i; j++) {
+                    if (squares[j] == square) {
+                        return false;
+                    }
+                }
+                // Rats swim; Lions and Tigers can land in water at the end of a jump
+                if (board.isWater(square) && !pieces[i].canEnterWater() && !pieces[i].canJumpWater()) {
+                    return false;
+                }
+                if (board.isDen(square, 0) || board.isDen(square, 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Solves one position for the given sweep distance, or returns UNRESOLVED.
+         */
+        private int evaluate(long index, short[] values, int distance) {
+            int side = signature.decode(index, squares);
+            for (int slot = 0; slot < pieces.length; slot++) {
+                pieces[slot].setCaptured(false);
+                board.setPieceAt(squares[slot], pieces[slot]);
+            }
+            game.setCurrentPlayerIndex(side);
+
+            int result = Tablebase.UNRESOLVED;
+            int count = game.generateLegalMoves(side, moves);
+            if (count > 0) {
+                boolean allLost = true;
+                int longestLoss = 0;
+                for (int i = 0; i < count && result == Tablebase.UNRESOLVED; i++) {
+                    int move = moves.get(i);
+                    int token = game.makeMove(move);
+                    int childValue = game.isGameOver() ? 0 : childValue(values);
+                    boolean immediateWin = game.isGameOver();
+                    game.unmakeMove(move, token);
+
+                    if (immediateWin || (childValue != Tablebase.UNRESOLVED && childValue < 0
+                            && -childValue + 1 <= distance)) {
+                        result = distance;
+                    } else if (childValue != Tablebase.UNRESOLVED && childValue > 0 && childValue < distance) {
+                        longestLoss = Math.max(longestLoss, childValue);
+                    } else {
+                        allLost = false;
+                    }
+                }
+                if (result == Tablebase.UNRESOLVED && allLost) {
+                    result = -(longestLoss + 1);
+                }
+            }
+
+            for (int square : squares) {
+                board.removePieceAt(square);
+            }
+            return result;
+        }
+
+        /**
+         * Value of the position after a move, from the new side to move's point of view.
+         */
+        private int childValue(short[] values) {
+            int side = game.getCurrentPlayerIndex();
+            for (Piece piece : pieces) {
+                if (piece.isCaptured()) {
+                    int value = tablebases.probe(board, side);
+                    if (value == Tablebase.UNKNOWN) {
+                        throw new IllegalStateException("Missing tablebase for " + MaterialSignature.of(board));
+                    }
+                    return value;
+                }
+            }
+            for (int slot = 0; slot < pieces.length; slot++) {
+                childSquares[slot] = pieces[slot].getPosition().getIndex();
+            }
+            return values[(int) signature.index(childSquares, side)];
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TablebaseGenerator SIGNATURE... [--out dir] [--threads N]   (e.g. RE-L)");
+            System.exit(1);
+        }
+        Path directory = Paths.get("resources/tablebases");
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<MaterialSignature> signatures = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--out") && i + 1 < args.length) {
+                directory = Paths.get(args[++i]);
+            } else if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else {
+                signatures.add(MaterialSignature.parse(args[i]));
+            }
+        }
+
+        TablebaseGenerator generator = new TablebaseGenerator(Tablebases.open(directory), directory, threads);
+        generator.setProgress(System.out);
+        for (MaterialSignature signature : signatures) {
+            generator.generate(signature);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The set of available tablebases, looked up by the material on the board. Either
+ * orientation of a signature is answered by its canonical table.
+ */
+public class Tablebases {
+    private static final String PATH_PROPERTY = "jungle.tb.path";
+    private static final String DEFAULT_PATH = "resources/tablebases";
+
+    private final Map<Integer, Tablebase> tables = new ConcurrentHashMap<>();
+    private volatile int maxPieces;
+
+    /**
+     * Opens every tablebase file in the directory. A missing directory gives an empty set.
+     */
+    public static Tablebases open(Path directory) throws IOException {
+        Tablebases tablebases = new Tablebases();
+        if (!Files.isDirectory(directory)) {
+            return tablebases;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + Tablebase.EXTENSION)) {
+            for (Path file : files) {
+                tablebases.add(Tablebase.open(file));
+            }
+        }
+        return tablebases;
+    }
+
+    /**
+     * Opens the directory named by the jungle.tb.path system property
+     * (default resources/tablebases).
+     */
+    public static Tablebases fromConfig() throws IOException {
+        return open(Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_PATH)));
+    }
+
+    public void add(Tablebase table) {
+        MaterialSignature signature = table.getSignature();
+        if (!signature.isCanonical()) {
+            throw new IllegalArgumentException("Tablebase " + signature + " is not in canonical orientation");
+        }
+        tables.put(signature.key(), table);
+        maxPieces = Math.max(maxPieces, signature.getPieceCount());
+    }
+
+    public boolean contains(MaterialSignature signature) {
+        return tables.containsKey(signature.canonical().key());
+    }
+
+    public Tablebase get(MaterialSignature signature) {
+        return tables.get(signature.canonical().key());
+    }
+
+    public boolean isEmpty() {
+        return tables.isEmpty();
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    /**
+     * Largest piece count covered by any table; positions with more pieces are never found.
+     */
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    /**
+     * Value of the position for the side to move (see Tablebase), or Tablebase.UNKNOWN
+     * when no table covers its material.
+     */
+    public int probe(Board board, int sideToMove) {
+        if (Long.bitCount(board.getOccupancy()) > maxPieces) {
+            return Tablebase.UNKNOWN;
+        }
+        int mask0 = MaterialSignature.sideMask(board, 0);
+        int mask1 = MaterialSignature.sideMask(board, 1);
+        if (mask0 == 0 || mask1 == 0) {
+            return Tablebase.UNKNOWN;
+        }
+        Tablebase table = tables.get(MaterialSignature.key(mask0, mask1));
+        if (table == null) {
+            table = tables.get(MaterialSignature.key(mask1, mask0));
+            if (table == null) {
+                return Tablebase.UNKNOWN;
+            }
+        }
+        return table.probe(board, sideToMove);
+    }
+
+    public int probe(GameManager game) {
+        if (game.isGameOver()) {
+            return Tablebase.UNKNOWN;
+        }
+        return probe(game.getBoard(), game.getCurrentPlayerIndex());
+    }
+}
@@ -0,0 +1,279 @@
+package Java.COMP3211_JungleGame.engine;
+
+import Java.COMP3211_JungleGame.components.*;
+import Java.COMP3211_JungleGame.controller.FileManager;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays engine-vs-engine games without the console, spread over a thread pool.
+ *
+ * Games run through executeMove and confirmTurn, so each one leaves a normal
+ * GameRecorder behind, written out in the .record format. Games come in pairs: both
+ * games of a pair start from the same random opening, and the engines swap sides for
+ * the second one. A game counts as a draw when it reaches the ply limit or the side to
+ * move has no legal move.
+ *
+ * Usage: Tournament engineA engineB [--games N] [--threads N] [--random-plies N]
+ *        [--max-plies N] [--seed S] [--out dir | --no-records]
+ * See EngineSpec for the engine syntax, e.g. "ab:depth=4" or "mcts:playouts=2000".
+ */
+public class Tournament {
+    public static final int DEFAULT_MAX_PLIES = 300;
+    private static final String DEFAULT_RECORD_DIR = "resources/records/tournament/";
+
+    private final EngineSpec engineA;
+    private final EngineSpec engineB;
+    private final int threads;
+
+    public Tournament(EngineSpec engineA, EngineSpec engineB, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, got: " + threads);
+        }
+        this.engineA = engineA;
+        this.engineB = engineB;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays the given number of games. Each game opens with randomPlies uniformly random
+     * moves before the engines take over. When recordDir is not null, game i is written
+     * there as game-i.record.
+     */
+    public Result run(int games, int randomPlies, int maxPlies, long seed, File recordDir) {
+        if (recordDir != null && !recordDir.isDirectory() && !recordDir.mkdirs()) {
+            throw new IllegalArgumentException("Cannot create record directory: " + recordDir);
+        }
+        long start = System.nanoTime();
+        GameOutcome[] outcomes = new GameOutcome[games];
+        AtomicInteger nextGame = new AtomicInteger();
+        FileManager fileManager = recordDir == null ? null : new FileManager();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long workerSeed = seed ^ (0x9E3779B97F4A7C15L * (t + 1));
+                workers.add(executor.submit(() -> {
+                    try (EngineSpec.MoveChooser a = engineA.create(workerSeed);
+                         EngineSpec.MoveChooser b = engineB.create(~workerSeed)) {
+                        int game;
+                        while ((game = nextGame.getAndIncrement()) < games) {
+                            outcomes[game] = playGame(game, a, b, randomPlies, maxPlies, seed);
+                            if (fileManager != null) {
+                                writeRecord(fileManager, recordDir, game, outcomes[game].record);
+                            }
+                            outcomes[game].record = null;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for games", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Tournament game failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(outcomes, System.nanoTime() - start);
+    }
+
+    private GameOutcome playGame(int gameIndex, EngineSpec.MoveChooser a, EngineSpec.MoveChooser b,
+                                 int randomPlies, int maxPlies, long seed) {
+        // Engine A plays first in even games; both games of a pair share an opening
+        boolean aFirst = gameIndex % 2 == 0;
+        GameManager game = new GameManager(
+                new Player(aFirst ? engineA.toString() : engineB.toString(), 0),
+                new Player(aFirst ? engineB.toString() : engineA.toString(), 1));
+        SplittableRandom openingRandom = new SplittableRandom(seed + gameIndex / 2);
+        MoveBuffer moves = new MoveBuffer();
+
+        int plies = 0;
+        while (!game.isGameOver() && plies < maxPlies) {
+            int move;
+            if (plies < randomPlies) {
+                int count = game.generateLegalMoves(game.getCurrentPlayerIndex(), moves);
+                move = count == 0 ? Move.NONE : moves.get(openingRandom.nextInt(count));
+            } else {
+                boolean aToMove = (game.getCurrentPlayerIndex() == 0) == aFirst;
+                move = (aToMove ? a : b).chooseMove(game);
+            }
+            if (move == Move.NONE) {
+                break;
+            }
+            game.executeMove(Position.ofIndex(Move.getFrom(move)), Position.ofIndex(Move.getTo(move)));
+            game.confirmTurn();
+            plies++;
+        }
+
+        int winner = game.isGameOver() && game.getWinner() != null ? game.getWinner().getPlayerId() : -1;
+        return new GameOutcome(aFirst, winner, plies, game.getGameRecord());
+    }
+
+    private static void writeRecord(FileManager fileManager, File recordDir, int gameIndex, GameRecorder record) {
+        File file = new File(recordDir, String.format("game-%05d.record", gameIndex + 1));
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            fileManager.writeRecord(writer, record);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error writing record " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static final class GameOutcome {
+        final boolean aFirst;
+        final int winner;
+        final int plies;
+        GameRecorder record;
+
+        GameOutcome(boolean aFirst, int winner, int plies, GameRecorder record) {
+            this.aFirst = aFirst;
+            this.winner = winner;
+            this.plies = plies;
+            this.record = record;
+        }
+
+        boolean aWon() {
+            return winner >= 0 && (winner == 0) == aFirst;
+        }
+    }
+
+    /**
+     * Win/draw/loss totals from engine A's side, with game length and throughput.
+     */
+    public static class Result {
+        private final int wins;
+        private final int draws;
+        private final int losses;
+        private final int firstPlayerWins;
+        private final long totalPlies;
+        private final int games;
+        private final long elapsedNanos;
+
+        Result(GameOutcome[] outcomes, long elapsedNanos) {
+            int wins = 0, draws = 0, firstPlayerWins = 0;
+            long totalPlies = 0;
+            for (GameOutcome outcome : outcomes) {
+                totalPlies += outcome.plies;
+                if (outcome.winner < 0) {
+                    draws++;
+                } else if (outcome.aWon()) {
+                    wins++;
+                }
+                if (outcome.winner == 0) {
+                    firstPlayerWins++;
+                }
+            }
+            this.games = outcomes.length;
+            this.wins = wins;
+            this.draws = draws;
+            this.losses = games - wins - draws;
+            this.firstPlayerWins = firstPlayerWins;
+            this.totalPlies = totalPlies;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        public int getWins() {
+            return wins;
+        }
+
+        public int getDraws() {
+            return draws;
+        }
+
+        public int getLosses() {
+            return losses;
+        }
+
+        public int getFirstPlayerWins() {
+            return firstPlayerWins;
+        }
+
+        /**
+         * Engine A's score with draws counting half, from 0 to 1.
+         */
+        public double getScore() {
+            return games == 0 ? 0 : (wins + draws / 2.0) / games;
+        }
+
+        public double getAverageLength() {
+            return games == 0 ? 0 : totalPlies / (double) games;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getGamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Games: %d%nW/D/L: %d/%d/%d (score %.1f%%)%nFirst player wins: %d%n" +
+                            "Average length: %.1f plies%nTime: %.3f s%nGames/s: %.2f",
+                    games, wins, draws, losses, getScore() * 100, firstPlayerWins,
+                    getAverageLength(), elapsedNanos / 1e9, getGamesPerSecond());
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: Tournament engineA engineB [--games N] [--threads N] [--random-plies N] " +
+                    "[--max-plies N] [--seed S] [--out dir | --no-records]");
+            System.exit(1);
+        }
+        EngineSpec engineA = EngineSpec.parse(args[0]);
+        EngineSpec engineB = EngineSpec.parse(args[1]);
+        int games = 100;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int randomPlies = 4;
+        int maxPlies = DEFAULT_MAX_PLIES;
+        long seed = System.nanoTime();
+        File recordDir = new File(DEFAULT_RECORD_DIR);
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--random-plies" -> randomPlies = Integer.parseInt(args[++i]);
+                case "--max-plies" -> maxPlies = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--out" -> recordDir = new File(args[++i]);
+                case "--no-records" -> recordDir = null;
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(1);
+                }
+            }
+        }
+
+        System.out.println(engineA + " vs " + engineB + ", " + games + " games on " + threads +
+                " threads, seed " + seed);
+        Result result = new Tournament(engineA, engineB, threads).run(games, randomPlies, maxPlies, seed, recordDir);
+        System.out.println(result);
+        if (recordDir != null) {
+            System.out.println("Records written to " + recordDir);
+        }
+    }
+}
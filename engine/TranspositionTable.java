@@ -0,0 +1,209 @@
+package Java.COMP3211_JungleGame.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free transposition table backed by a flat long array.
+ *
+ * Each entry takes two longs: the position hash XORed with the data word, and the data
+ * word itself. A reader accepts an entry only when the two XOR back to the probed hash,
+ * so an entry torn by a concurrent writer reads as a miss instead of as wrong data.
+ * The data word packs, from the low bits up: best move (16), score (16, signed),
+ * depth (8), bound (2) and search generation (8).
+ */
+public class TranspositionTable {
+    public static final int BOUND_NONE = 0;
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    public static final long MIN_MEGABYTES = 1;
+    public static final long MAX_MEGABYTES = 8192;
+    public static final long DEFAULT_MEGABYTES = 64;
+
+    private static final String SIZE_PROPERTY = "jungle.tt.mb";
+    private static final String POLICY_PROPERTY = "jungle.tt.policy";
+
+    private static final int BYTES_PER_ENTRY = 16;
+    private static final int FILL_SAMPLE = 4096;
+
+    public enum ReplacementPolicy {
+        /** Keep the deeper result unless the stored one is from an older search. */
+        DEPTH_PREFERRED,
+        /** Always overwrite with the newest result. */
+        ALWAYS_REPLACE
+    }
+
+    private final long[] slots;
+    private final long entryMask;
+    private final ReplacementPolicy policy;
+    private volatile int generation;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public TranspositionTable(long megabytes, ReplacementPolicy policy) {
+        if (megabytes < MIN_MEGABYTES || megabytes > MAX_MEGABYTES) {
+            throw new IllegalArgumentException("Table size must be between " + MIN_MEGABYTES +
+                    " and " + MAX_MEGABYTES + " MB, got: " + megabytes);
+        }
+        long entries = Long.highestOneBit(megabytes * 1024 * 1024 / BYTES_PER_ENTRY);
+        // A Java array holds fewer than 2^31 longs, which caps the table just under 8 GB
+        entries = Math.min(entries, 1L << 29);
+        this.slots = new long[(int) (entries * 2)];
+        this.entryMask = entries - 1;
+        this.policy = policy;
+        this.generation = 0;
+    }
+
+    /**
+     * Builds a table sized from the jungle.tt.mb system property (megabytes, default 64)
+     * with the policy named by jungle.tt.policy (default DEPTH_PREFERRED).
+     */
+    public static TranspositionTable fromConfig() {
+        long megabytes = Long.getLong(SIZE_PROPERTY, DEFAULT_MEGABYTES);
+        String policyName = System.getProperty(POLICY_PROPERTY, ReplacementPolicy.DEPTH_PREFERRED.name());
+        ReplacementPolicy policy;
+        try {
+            policy = ReplacementPolicy.valueOf(policyName.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown replacement policy: " + policyName);
+        }
+        return new TranspositionTable(megabytes, policy);
+    }
+
+    /**
+     * Returns the data word stored for the hash, or 0 on a miss.
+     */
+    public long probe(long hash) {
+        probes.increment();
+        int index = indexOf(hash);
+        long data = slots[index + 1];
+        if (data != 0 && (slots[index] ^ data) == hash) {
+            hits.increment();
+            return data;
+        }
+        return 0L;
+    }
+
+    public void store(long hash, int move, int score, int depth, int bound) {
+        if (bound < BOUND_EXACT || bound > BOUND_UPPER) {
+            throw new IllegalArgumentException("Invalid bound type: " + bound);
+        }
+        int index = indexOf(hash);
+        long oldData = slots[index + 1];
+        boolean sameKey = oldData != 0 && (slots[index] ^ oldData) == hash;
+
+        if (policy == ReplacementPolicy.DEPTH_PREFERRED && oldData != 0 && !sameKey
+                && generationOf(oldData) == (generation & 0xFF) && depthOf(oldData) > depth) {
+            return;
+        }
+        if (move == 0 && sameKey) {
+            move = moveOf(oldData);
+        }
+
+        long data = pack(move, score, depth, bound, generation);
+        slots[index] = hash ^ data;
+        slots[index + 1] = data;
+        stores.increment();
+    }
+
+    /**
+     * Starts a new search generation, so DEPTH_PREFERRED can replace entries from earlier searches.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(slots, 0L);
+        probes.reset();
+        hits.reset();
+        stores.reset();
+    }
+
+    public static int moveOf(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int scoreOf(long data) {
+        return (short) ((data >>> 16) & 0xFFFF);
+    }
+
+    public static int depthOf(long data) {
+        return (int) ((data >>> 32) & 0xFF);
+    }
+
+    public static int boundOf(long data) {
+        return (int) ((data >>> 40) & 0x3);
+    }
+
+    private static int generationOf(long data) {
+        return (int) ((data >>> 42) & 0xFF);
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int generation) {
+        return (move & 0xFFFFL)
+                | ((score & 0xFFFFL) << 16)
+                | ((long) Math.min(Math.max(depth, 0), 0xFF) << 32)
+                | ((long) (bound & 0x3) << 40)
+                | ((long) (generation & 0xFF) << 42);
+    }
+
+    private int indexOf(long hash) {
+        return (int) (hash & entryMask) << 1;
+    }
+
+    public long getEntryCount() {
+        return entryMask + 1;
+    }
+
+    public long getSizeBytes() {
+        return getEntryCount() * BYTES_PER_ENTRY;
+    }
+
+    public ReplacementPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getProbeCount() {
+        return probes.sum();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getStoreCount() {
+        return stores.sum();
+    }
+
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0.0 : (double) hits.sum() / probeCount;
+    }
+
+    /**
+     * Fraction of entries written during the current search, estimated from the first
+     * few thousand slots.
+     */
+    public double getFillRate() {
+        int sample = (int) Math.min(getEntryCount(), FILL_SAMPLE);
+        int current = generation & 0xFF;
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            long data = slots[2 * i + 1];
+            if (data != 0 && generationOf(data) == current) {
+                used++;
+            }
+        }
+        return (double) used / sample;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TT %d MB (%d entries, %s): hit rate %.1f%%, fill %.1f%%",
+                getSizeBytes() / (1024 * 1024), getEntryCount(), policy,
+                getHitRate() * 100, getFillRate() * 100);
+    }
+}
@@ -25,7 +25,8 @@ public class UI {
         System.out.println("2. Load Game");
         System.out.println("3. Replay Game Record");
         System.out.println("4. Exit");
-        System.out.print("Enter choice (1-4): ");
+        System.out.println("5. New Game vs Computer");
+        System.out.print("Enter choice (1-5): ");
         return requestInput("").trim();
     }
 
@@ -56,7 +57,7 @@ public class UI {
         for (int row = 8; row >= 0; row--) {
             System.out.print(row + " |");
             for (int col = 0; col < 7; col++) {
-                Position pos = new Position(row, col);
+                Position pos = Position.of(row, col);
                 displayCell(board, pos, player0, player1);
                 if (col < 6) System.out.print("|");
             }
@@ -221,6 +222,7 @@ public class UI {
         System.out.println("\n--- Commands ---");
         System.out.println("help  - Show this help");
         System.out.println("save  - Save current game");
+        System.out.println("hint  - Show opening book moves for this position");
         System.out.println("undo  - Undo last move (max 3 per player per game)");
         System.out.println("quit  - Exit game");
         System.out.println();
@@ -230,8 +232,12 @@ public class UI {
         System.out.println("\n================================");
         System.out.println("        GAME OVER!");
         System.out.println("================================");
-        String winnerColor = (winner.getPlayerId() == 0) ? RED : CYAN;
-        System.out.println(winnerColor + BOLD + "   " + winner.getName() + " WINS!" + DEFAULT);
+        if (winner == null) {
+            System.out.println(BOLD + "   DRAW!" + DEFAULT);
+        } else {
+            String winnerColor = (winner.getPlayerId() == 0) ? RED : CYAN;
+            System.out.println(winnerColor + BOLD + "   " + winner.getName() + " WINS!" + DEFAULT);
+        }
         System.out.println("================================\n");
     }
 